@@ -4,8 +4,10 @@ public final class BookingConstants {
     private BookingConstants() {} // Prevent instantiation
 
     public static final int DEFAULT_BOOKING_SLOT_MINUTES = 30;
+    public static final int MIN_BOOKING_SLOT_MINUTES = 5;
     public static final int PAYMENT_DEADLINE_HOURS = 24;
-    public static final int EXPIRED_BOOKING_CHECK_INTERVAL_MS = 3600000; // 1 hour
+    public static final int EXPIRED_BOOKING_CHECK_INTERVAL_MS = 60000; // 1 minute
+    public static final int EXPIRED_BOOKING_SWEEP_CHUNK_SIZE = 500;
 
     public static final class Status {
         private Status() {}
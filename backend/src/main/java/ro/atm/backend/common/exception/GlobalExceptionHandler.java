@@ -3,10 +3,13 @@ package ro.atm.backend.common.exception;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -35,6 +38,15 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), ex.getErrorCode(), ex.getHttpStatus(), ex.getDetails());
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(MethodArgumentNotValidException ex) {
+        FieldError fieldError = ex.getBindingResult().getFieldError();
+        String message = fieldError != null ? fieldError.getDefaultMessage() : "Invalid request";
+        log.error("Validation failed: {}", message);
+        return buildErrorResponse(message, "VALIDATION_ERROR", HttpStatus.BAD_REQUEST,
+                fieldError != null ? Map.of("field", fieldError.getField()) : null);
+    }
+
     @ExceptionHandler(BookingNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleBookingNotFound(BookingNotFoundException ex) {
         log.error("Booking not found: {}", ex.getMessage());
@@ -59,6 +71,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), ex.getErrorCode(), ex.getHttpStatus(), ex.getDetails());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Rate limited: {}", ex.getMessage());
+        ResponseEntity<ErrorResponse> response =
+                buildErrorResponse(ex.getMessage(), ex.getErrorCode(), ex.getHttpStatus(), ex.getDetails());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentials(BadCredentialsException ex) {
         log.error("Bad credentials: {}", ex.getMessage());
@@ -0,0 +1,10 @@
+package ro.atm.backend.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceBusyException extends BaseException {
+
+    public ServiceBusyException(String message) {
+        super(message, "SERVICE_BUSY", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
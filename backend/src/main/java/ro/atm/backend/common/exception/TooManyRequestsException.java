@@ -0,0 +1,16 @@
+package ro.atm.backend.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super("Too many attempts. Please try again later.", "TOO_MANY_REQUESTS", HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+        withDetail("retryAfterSeconds", retryAfterSeconds);
+    }
+}
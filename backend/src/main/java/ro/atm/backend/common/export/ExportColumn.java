@@ -0,0 +1,13 @@
+package ro.atm.backend.common.export;
+
+import java.util.function.Function;
+
+/**
+ * Named column of an export, extracting its value from a row
+ */
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, Object> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
@@ -0,0 +1,140 @@
+package ro.atm.backend.common.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes rows one at a time as CSV or NDJSON, optionally gzip-compressed.
+ * Nothing is buffered beyond the writer's buffer, so memory stays constant however many rows are written.
+ */
+public final class RowExportWriter<T> implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final GZIPOutputStream gzip;
+    private final Writer writer;
+    private final JsonGenerator json;
+    private long rows;
+
+    public RowExportWriter(OutputStream out, ExportFormat format, List<ExportColumn<T>> columns,
+                           boolean compress) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.gzip = compress ? new GZIPOutputStream(out, 64 * 1024) : null;
+        this.writer = new BufferedWriter(new OutputStreamWriter(compress ? gzip : out, StandardCharsets.UTF_8), 64 * 1024);
+        this.json = format == ExportFormat.NDJSON ? JSON_FACTORY.createGenerator(writer) : null;
+        if (json != null) {
+            // Each row ends with its own newline; the default separator would start every later line with a space
+            json.setRootValueSeparator(null);
+        }
+
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(row);
+        } else {
+            writeJsonRow(row);
+        }
+        rows++;
+    }
+
+    public long getRowCount() {
+        return rows;
+    }
+
+    /**
+     * Flush everything and finish the gzip stream; the underlying output stream is left open
+     */
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(columns.get(i).name()));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value instanceof String text) {
+                writer.write(csvEscape(neutralizeFormula(text)));
+            } else if (value instanceof BigDecimal decimal) {
+                writer.write(decimal.toPlainString());
+            } else if (value != null) {
+                writer.write(csvEscape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeJsonRow(T row) throws IOException {
+        json.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            Object value = column.value().apply(row);
+            json.writeFieldName(column.name());
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof BigDecimal decimal) {
+                json.writeNumber(decimal);
+            } else if (value instanceof Long number) {
+                json.writeNumber(number);
+            } else if (value instanceof Integer number) {
+                json.writeNumber(number);
+            } else if (value instanceof Boolean flag) {
+                json.writeBoolean(flag);
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // Spreadsheets evaluate cells starting with these characters as formulas
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+}
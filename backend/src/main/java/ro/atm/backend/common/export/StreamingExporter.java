@@ -0,0 +1,49 @@
+package ro.atm.backend.common.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a repository stream as CSV or NDJSON inside a read-only transaction.
+ * Rows come from a forward-only database cursor and are written as they arrive, so memory use does not
+ * depend on the size of the table.
+ */
+@Component
+@Slf4j
+public class StreamingExporter {
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public StreamingExporter(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write every row of the stream to the output stream; the output stream itself is not closed
+     */
+    public <T> void export(String name, Supplier<Stream<T>> rows, List<ExportColumn<T>> columns,
+                           ExportFormat format, boolean gzip, OutputStream out) {
+        long count = readOnlyTransaction.execute(status -> {
+            try (Stream<T> stream = rows.get();
+                 RowExportWriter<T> writer = new RowExportWriter<>(out, format, columns, gzip)) {
+                for (T row : (Iterable<T>) stream::iterator) {
+                    writer.write(row);
+                }
+                return writer.getRowCount();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Export of " + name + " aborted", e);
+            }
+        });
+        log.info("Exported {} {} as {}", count, name, format);
+    }
+}
@@ -0,0 +1,109 @@
+package ro.atm.backend.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of the principals loaded by JwtAuthFilter, keyed by username and token id.
+ * Every entry of a user is dropped once a change to the account (password, roles, enabled flag, deletion)
+ * is committed. Entries also expire after security.principal-cache.ttl-seconds, which bounds how long
+ * a change made on another instance can go unnoticed.
+ * Cached principals are detached snapshots and must not be modified.
+ */
+@Component
+@Slf4j
+public class AuthenticatedPrincipalCache {
+
+    // Tokens kept per user; older ones are dropped when a user has more active sessions than this
+    private static final int MAX_TOKENS_PER_USER = 16;
+
+    private final long ttlMillis;
+    private final int maxUsers;
+
+    private final Map<String, Map<String, CachedPrincipal>> principals = new ConcurrentHashMap<>();
+
+    // Bumped on every eviction so that a principal loaded concurrently with a change is not stored
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AuthenticatedPrincipalCache(@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                                       @Value("${security.principal-cache.max-users:10000}") int maxUsers) {
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * Get the cached principal of a token, loading (and caching) it on a miss
+     */
+    public UserDetails get(String username, String tokenId, Supplier<UserDetails> loader) {
+        String key = tokenId != null ? tokenId : "";
+        long now = System.currentTimeMillis();
+
+        Map<String, CachedPrincipal> tokens = principals.get(username);
+        CachedPrincipal cached = tokens != null ? tokens.get(key) : null;
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.principal();
+        }
+
+        long generation = evictions.get();
+        UserDetails principal = loader.get();
+        if (ttlMillis > 0 && evictions.get() == generation) {
+            store(username, key, new CachedPrincipal(principal, now + ttlMillis));
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evict(event.getUsername());
+    }
+
+    /**
+     * Drop every cached principal of a user
+     */
+    public void evict(String username) {
+        evictions.incrementAndGet();
+        if (username != null) {
+            principals.remove(username);
+        }
+        log.debug("Principal cache evicted for {}", username);
+    }
+
+    public void evictAll() {
+        evictions.incrementAndGet();
+        principals.clear();
+    }
+
+    private void store(String username, String tokenId, CachedPrincipal principal) {
+        if (principals.size() >= maxUsers && !principals.containsKey(username)) {
+            purgeExpired();
+            if (principals.size() >= maxUsers) {
+                // Still full: start over rather than grow without bound
+                principals.clear();
+            }
+        }
+
+        Map<String, CachedPrincipal> tokens = principals.computeIfAbsent(username, u -> new ConcurrentHashMap<>());
+        if (tokens.size() >= MAX_TOKENS_PER_USER) {
+            tokens.clear();
+        }
+        tokens.put(tokenId, principal);
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        principals.values().forEach(tokens -> tokens.values().removeIf(p -> p.expiresAt() <= now));
+        principals.values().removeIf(Map::isEmpty);
+    }
+
+    private record CachedPrincipal(UserDetails principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,66 @@
+package ro.atm.backend.common.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * PasswordEncoder that runs encode and matches on the PasswordHashingExecutor.
+ * <p>
+ * The delegate is a DelegatingPasswordEncoder: new hashes use the configured algorithm ({bcrypt} or {argon2})
+ * and cost, stored hashes of any supported algorithm still verify, and hashes without an {id} prefix
+ * (written before the prefix existed) are read as bcrypt. upgradeEncoding reports hashes made with another
+ * algorithm or a lower cost, so Spring Security rehashes them on the next successful login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor hashingExecutor) {
+        this.delegate = delegate;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    /**
+     * Build the delegating encoder for the given algorithm and cost parameters
+     */
+    public static PasswordEncoder delegating(String algorithm, int bcryptStrength,
+                                             int argon2MemoryKb, int argon2Iterations, int argon2Parallelism) {
+        String idForEncode = algorithm.trim().toLowerCase();
+        if (!BCRYPT.equals(idForEncode) && !ARGON2.equals(idForEncode)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Argon2PasswordEncoder argon2 = new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKb, argon2Iterations);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, argon2));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only parses the hash header, no need for the pool
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
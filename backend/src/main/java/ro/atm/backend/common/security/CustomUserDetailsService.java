@@ -1,10 +1,13 @@
 package ro.atm.backend.common.security;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ro.atm.backend.domain.user.repository.UserRepository;
 
 
@@ -15,7 +18,8 @@ import ro.atm.backend.domain.user.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -25,4 +29,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
 
+    /**
+     * Called by Spring Security after a successful login whose stored hash uses an outdated algorithm or cost
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        return userRepository.findByUsername(user.getUsername())
+                .map(entity -> {
+                    entity.setPassword(newPassword);
+                    log.info("Rehashed password of user {}", entity.getUsername());
+                    return (UserDetails) userRepository.save(entity);
+                })
+                .orElse(user);
+    }
+
 }
@@ -1,5 +1,6 @@
 package ro.atm.backend.common.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,18 +8,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ro.atm.backend.domain.auth.entity.User;
-
 import java.io.IOException;
 
-
+/**
+ * Authenticates requests carrying an access token.
+ * By default the principal is loaded from the database (through AuthenticatedPrincipalCache). With
+ * security.stateless-authorization enabled it is built from the verified token claims alone, and only users on
+ * the revocation list are rejected; role changes then take effect when the access token is next refreshed.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -26,6 +33,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${security.stateless-authorization:false}")
+    private boolean statelessAuthorization;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,18 +45,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        Claims claims = null;
 
         try {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                username = jwtService.extractUsername(token);
+                // Signature and expiry are verified once, here
+                claims = jwtService.parseToken(authHeader.substring(7));
             }
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-                if (jwtService.validateToken(token, (User) userDetails)) {
+            if (claims != null && claims.getSubject() != null && !jwtService.isRefreshToken(claims)
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = statelessAuthorization
+                        ? principalFromClaims(claims)
+                        : loadPrincipal(claims);
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -74,4 +88,26 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             );
         }
     }
+
+    private UserDetails loadPrincipal(Claims claims) {
+        String username = claims.getSubject();
+        UserDetails userDetails = principalCache.get(username, claims.getId(),
+                () -> customUserDetailsService.loadUserByUsername(username));
+        return userDetails.isEnabled() && jwtService.isTokenValid(claims, userDetails) ? userDetails : null;
+    }
+
+    // No database access unless the user is (probably) on the revocation list
+    private UserDetails principalFromClaims(Claims claims) {
+        String username = claims.getSubject();
+        if (tokenRevocationService.isRevoked(username, claims.getIssuedAt())) {
+            log.debug("Rejected revoked token of user {}", username);
+            return null;
+        }
+        return User.withUsername(username)
+                .password("")
+                .authorities(jwtService.extractRoles(claims).stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList())
+                .build();
+    }
 }
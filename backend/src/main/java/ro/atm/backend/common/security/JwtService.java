@@ -1,30 +1,77 @@
 package ro.atm.backend.common.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import javax.crypto.SecretKey;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import ro.atm.backend.common.util.ContentTag;
 import ro.atm.backend.domain.auth.entity.User;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Issues and verifies JWTs.
+ * Keys and the parser are built once. Tokens are signed with the current secret and carry its key id (kid);
+ * verification also accepts the secrets listed in jwt.previous-secrets, so the secret can be rotated
+ * without logging everybody out.
+ * <p>
+ * Two kinds of tokens are issued: access tokens (carrying the roles, sent on every request) and longer-lived
+ * refresh tokens, which are only accepted by the refresh endpoint to obtain a new pair.
+ */
 @Component
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String SECRET;
-
-    @Value("${jwt.expiration:86400000}")
-    private long EXPIRATION_TIME; // Default 24 hours
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    private final long EXPIRATION_TIME;
+    private final long REFRESH_EXPIRATION_TIME;
+
+    private final SecretKey signingKey;
+    private final String signingKeyId;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.previous-secrets:}") List<String> previousSecrets,
+                      @Value("${jwt.expiration:86400000}") long expirationTime, // Default 24 hours
+                      @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationTime) { // Default 14 days
+        this.EXPIRATION_TIME = expirationTime;
+        this.REFRESH_EXPIRATION_TIME = refreshExpirationTime;
+        this.signingKey = toKey(secret);
+        this.signingKeyId = keyId(secret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        keys.put(signingKeyId, signingKey);
+        for (String previous : previousSecrets) {
+            if (previous != null && !previous.isBlank()) {
+                keys.putIfAbsent(keyId(previous.trim()), toKey(previous.trim()));
+            }
+        }
+        this.verificationKeys = Map.copyOf(keys);
+
+        // JwtParser is immutable and thread safe
+        this.parser = Jwts.parser()
+                .keyLocator(new VerificationKeyLocator())
+                .build();
+    }
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
@@ -35,58 +82,99 @@ public class JwtService {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList());
 
-        claims.put("roles", roles);
+        claims.put(ROLES_CLAIM, roles);
+        claims.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN);
+
+        return createToken(claims, user.getUsername(), UUID.randomUUID().toString(), EXPIRATION_TIME);
+    }
+
+    /**
+     * Issue a refresh token with the given id (jti); it carries no roles, they are read again from the database
+     * on refresh
+     */
+    public String generateRefreshToken(User user, String tokenId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN);
+
+        return createToken(claims, user.getUsername(), tokenId, REFRESH_EXPIRATION_TIME);
+    }
 
-        return createToken(claims, user.getUsername());
+    public long getRefreshExpirationTime() {
+        return REFRESH_EXPIRATION_TIME;
     }
 
-    private String createToken(Map<String, Object> claims, String username) {
+    private String createToken(Map<String, Object> claims, String username, String tokenId, long expirationTime) {
         return Jwts.builder()
+                .header().keyId(signingKeyId).and()
                 .claims(claims)
+                .id(tokenId)
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey())
+                .expiration(new Date(System.currentTimeMillis() + expirationTime))
+                .signWith(signingKey)
                 .compact();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
+    private static SecretKey toKey(String secret) {
+        byte[] keyBytes = Decoders.BASE64.decode(secret);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    // Derived from the secret, so every instance agrees on it without extra configuration
+    private static String keyId(String secret) {
+        return ContentTag.of(secret).substring(0, 12);
+    }
+
+    public List<String> extractRoles(String token) {
+        return extractRoles(extractAllClaims(token));
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    @SuppressWarnings("unchecked")
+    public List<String> extractRoles(Claims claims) {
+        List<String> roles = claims.get(ROLES_CLAIM, List.class);
+        return roles != null ? roles : List.of();
     }
 
-    public List<String> extractRoles(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("roles", List.class);
+    /**
+     * Check if verified claims belong to a refresh token; tokens issued before token types existed are access tokens
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verify the token once and return its claims; throws ExpiredJwtException when it has expired
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Check already verified claims against the user they name
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername())
+                && claims.getExpiration().after(new Date());
     }
 
-    public Boolean validateToken(String token, User userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    private final class VerificationKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String keyId = header.getKeyId();
+            if (keyId == null) {
+                // Issued before tokens carried a key id
+                return signingKey;
+            }
+            SecretKey key = verificationKeys.get(keyId);
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown signing key id: " + keyId);
+            }
+            return key;
+        }
     }
 }
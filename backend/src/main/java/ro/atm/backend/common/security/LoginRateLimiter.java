@@ -0,0 +1,229 @@
+package ro.atm.backend.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ro.atm.backend.common.exception.TooManyRequestsException;
+import ro.atm.backend.infrastructure.ratelimit.RateLimitCounter;
+import ro.atm.backend.infrastructure.ratelimit.RateLimitCounterRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Throttles login and password reset attempts per username and per client IP, before any password is hashed.
+ * <p>
+ * Each key is limited with a sliding window estimated from two fixed windows:
+ * {@code previous * (1 - elapsed fraction of the current window) + current}.
+ * In memory a key costs a single AtomicLong packing the window number and both counts, updated with CAS.
+ * With security.rate-limit.shared enabled the counts live in rate_limit_counters instead, so every instance
+ * sees the same limits; if the database cannot be reached the in-memory counters are used.
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+    public enum Action {
+        LOGIN, PASSWORD_RESET
+    }
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final RateLimitCounterRepository counterRepository;
+    private final ClusterJobExecutor jobExecutor;
+    private final LongSupplier clock;
+    private final boolean enabled;
+    private final boolean shared;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final Map<Action, Limits> limits;
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoginRateLimiter(RateLimitCounterRepository counterRepository,
+                            ClusterJobExecutor jobExecutor,
+                            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${security.rate-limit.shared:false}") boolean shared,
+                            @Value("${security.rate-limit.window-seconds:300}") long windowSeconds,
+                            @Value("${security.rate-limit.max-keys:100000}") int maxKeys,
+                            @Value("${security.rate-limit.login.per-username:10}") int loginPerUsername,
+                            @Value("${security.rate-limit.login.per-ip:50}") int loginPerIp,
+                            @Value("${security.rate-limit.password-reset.per-username:3}") int resetPerUsername,
+                            @Value("${security.rate-limit.password-reset.per-ip:10}") int resetPerIp) {
+        this(counterRepository, jobExecutor, System::currentTimeMillis, enabled, shared, windowSeconds, maxKeys,
+                Map.of(Action.LOGIN, new Limits(loginPerUsername, loginPerIp),
+                        Action.PASSWORD_RESET, new Limits(resetPerUsername, resetPerIp)));
+    }
+
+    LoginRateLimiter(RateLimitCounterRepository counterRepository, ClusterJobExecutor jobExecutor, LongSupplier clock,
+                     boolean enabled, boolean shared, long windowSeconds, int maxKeys, Map<Action, Limits> limits) {
+        this.counterRepository = counterRepository;
+        this.jobExecutor = jobExecutor;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.shared = shared;
+        this.windowMillis = Math.max(1, windowSeconds) * 1000L;
+        this.maxKeys = maxKeys;
+        this.limits = limits;
+    }
+
+    /**
+     * Count an attempt; throws TooManyRequestsException when the username or the client IP is over its limit
+     */
+    public void check(Action action, String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        Limits actionLimits = limits.get(action);
+        if (clientIp != null) {
+            hit(action + ":ip:" + clientIp, actionLimits.perIp());
+        }
+        if (username != null && !username.isBlank()) {
+            hit(action + ":user:" + normalize(username), actionLimits.perUsername());
+        }
+    }
+
+    /**
+     * Forget the attempts counted for a username, e.g. after a successful login
+     */
+    public void reset(Action action, String username) {
+        if (enabled && username != null) {
+            // Shared counters simply age out; only the local view is reset
+            counters.remove(action + ":user:" + normalize(username));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long window = clock.getAsLong() / windowMillis;
+        counters.values().removeIf(counter -> (counter.get() >>> 32) < window - 1);
+
+        if (shared) {
+            jobExecutor.runExclusively("rate-limit-purge", Duration.ofSeconds(30),
+                    () -> counterRepository.deleteExpired(LocalDateTime.now()));
+        }
+    }
+
+    private void hit(String key, int limit) {
+        long retryAfter;
+        if (shared) {
+            try {
+                retryAfter = hitShared(key, limit);
+            } catch (RuntimeException e) {
+                log.warn("Shared rate limit counters unavailable, using local ones: {}", e.getMessage());
+                retryAfter = hitLocal(key, limit);
+            }
+        } else {
+            retryAfter = hitLocal(key, limit);
+        }
+
+        if (retryAfter > 0) {
+            log.warn("Rate limit exceeded for {}", key);
+            throw new TooManyRequestsException(retryAfter);
+        }
+    }
+
+    // Returns 0 when the hit is allowed (and counted), otherwise the seconds to wait
+    private long hitLocal(String key, int limit) {
+        long now = clock.getAsLong();
+        long window = now / windowMillis;
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxKeys) {
+                purgeLocal(window);
+            }
+            counter = counters.computeIfAbsent(key, k -> new AtomicLong(window << 32));
+        }
+
+        while (true) {
+            long state = counter.get();
+            long stateWindow = state >>> 32;
+            int previous = (int) ((state >>> 16) & MAX_COUNT);
+            int current = (int) (state & MAX_COUNT);
+            if (stateWindow != window) {
+                previous = stateWindow == window - 1 ? current : 0;
+                current = 0;
+            }
+
+            if (previous * (1 - elapsed) + current >= limit) {
+                return retryAfterSeconds(previous, current, limit, elapsed);
+            }
+
+            long next = (window << 32) | ((long) previous << 16) | Math.min(current + 1, MAX_COUNT);
+            if (counter.compareAndSet(state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private long hitShared(String key, int limit) {
+        long now = clock.getAsLong();
+        long window = now / windowMillis;
+        double elapsed = (double) (now % windowMillis) / windowMillis;
+
+        String currentBucket = key + "@" + window;
+        String previousBucket = key + "@" + (window - 1);
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli((window + 2) * windowMillis), ZoneId.systemDefault());
+
+        counterRepository.increment(currentBucket, expiresAt);
+        List<RateLimitCounter> rows = counterRepository.findByBucketIn(List.of(currentBucket, previousBucket));
+
+        int previous = 0;
+        int current = 0;
+        for (RateLimitCounter row : rows) {
+            if (row.getBucket().equals(currentBucket)) {
+                current = row.getHits() - 1; // not counting this attempt
+            } else {
+                previous = row.getHits();
+            }
+        }
+
+        if (previous * (1 - elapsed) + current >= limit) {
+            return retryAfterSeconds(previous, current, limit, elapsed);
+        }
+        return 0;
+    }
+
+    // Time until the estimate drops below the limit, assuming no further attempts
+    private long retryAfterSeconds(int previous, int current, int limit, double elapsed) {
+        double remainingOfWindow = 1 - elapsed;
+        double waitFraction;
+        if (current >= limit || previous == 0) {
+            waitFraction = remainingOfWindow;
+        } else {
+            // previous * (1 - x) + current < limit  <=>  x > 1 - (limit - current) / previous
+            waitFraction = Math.min(remainingOfWindow, 1 - (double) (limit - current) / previous - elapsed);
+        }
+        return Math.max(1, (long) Math.ceil(waitFraction * windowMillis / 1000.0));
+    }
+
+    private void purgeLocal(long window) {
+        counters.values().removeIf(counter -> (counter.get() >>> 32) < window - 1);
+        if (counters.size() >= maxKeys) {
+            // Still full (e.g. a spray of distinct IPs): start over rather than grow without bound
+            log.warn("Rate limiter reached {} keys, resetting", maxKeys);
+            counters.clear();
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Limits(int perUsername, int perIp) {
+    }
+}
@@ -0,0 +1,112 @@
+package ro.atm.backend.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ro.atm.backend.common.exception.ServiceBusyException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool that runs every password hash and verification.
+ * Hashing is CPU bound, so the pool is sized to the cores available for it; a login spike queues here instead
+ * of oversubscribing the CPU from every request thread, and once the queue is full callers get a 503 right away
+ * rather than a response that arrives after the client gave up.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(@Value("${security.password.hashing.threads:0}") int threads,
+                                   @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password.hashing.timeout-ms:10000}") long timeoutMillis,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, r -> {
+            Thread thread = new Thread(r, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing or verifying a password, excluding queueing")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a hashing task on the pool and wait for its result
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                Timer.Sample sample = Timer.start();
+                try {
+                    return task.get();
+                } finally {
+                    sample.stop(hashTimer);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing pool saturated ({} queued)", executor.getQueue().size());
+            throw new ServiceBusyException("The server is busy, please try again in a moment");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("The server is busy, please try again in a moment");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,96 @@
+package ro.atm.backend.common.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ro.atm.backend.common.exception.InvalidCredentialsException;
+import ro.atm.backend.domain.auth.entity.RefreshToken;
+import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.user.repository.RefreshTokenRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tracks issued refresh tokens so each one can be used only once.
+ * <p>
+ * Refreshing consumes the presented token and issues a new one (rotation); logout consumes it without a
+ * replacement. A consumed token presented again means it was copied, so every token of the user is revoked.
+ * A short grace period covers two tabs refreshing with the same token at once: the late one is rejected
+ * without revoking anything.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtService jwtService;
+    private final ClusterJobExecutor jobExecutor;
+    private final long reuseGraceSeconds;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               TokenRevocationService tokenRevocationService,
+                               JwtService jwtService,
+                               ClusterJobExecutor jobExecutor,
+                               @Value("${jwt.refresh-reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtService = jwtService;
+        this.jobExecutor = jobExecutor;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+    }
+
+    /**
+     * Issue and record a new refresh token for the user
+     */
+    @Transactional
+    public String issue(User user) {
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(tokenId)
+                .username(user.getUsername())
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtService.getRefreshExpirationTime())))
+                .build());
+        return jwtService.generateRefreshToken(user, tokenId);
+    }
+
+    /**
+     * Consume a verified refresh token; throws InvalidCredentialsException when it is unknown or already used
+     */
+    public void consume(Claims claims) {
+        String tokenId = claims.getId();
+        LocalDateTime now = LocalDateTime.now();
+        if (tokenId != null && refreshTokenRepository.markUsed(tokenId, now) == 1) {
+            return;
+        }
+
+        RefreshToken token = tokenId != null ? refreshTokenRepository.findById(tokenId).orElse(null) : null;
+        if (token != null && token.getUsedAt() != null
+                && token.getUsedAt().isBefore(now.minusSeconds(reuseGraceSeconds))) {
+            log.warn("Refresh token reuse detected for user {}, revoking all of their tokens", token.getUsername());
+            tokenRevocationService.revoke(token.getUsername());
+        }
+        throw new InvalidCredentialsException("Invalid or expired refresh token");
+    }
+
+    /**
+     * Invalidate a refresh token on logout; unknown or invalid tokens are ignored
+     */
+    public void logout(Claims claims) {
+        if (claims.getId() != null) {
+            refreshTokenRepository.markUsed(claims.getId(), LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-tokens.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        jobExecutor.runExclusively("refresh-token-purge", Duration.ofMinutes(5),
+                () -> refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now()));
+    }
+}
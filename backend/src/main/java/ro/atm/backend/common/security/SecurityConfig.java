@@ -1,6 +1,7 @@
 package ro.atm.backend.common.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +11,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -47,8 +47,19 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * Password hashing with a configurable algorithm and cost, run on the bounded hashing pool.
+     * Changing the algorithm or raising the cost takes effect for each user at their next login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor hashingExecutor,
+                                           @Value("${security.password.algorithm:bcrypt}") String algorithm,
+                                           @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+                                           @Value("${security.password.argon2.memory-kb:19456}") int argon2MemoryKb,
+                                           @Value("${security.password.argon2.iterations:2}") int argon2Iterations,
+                                           @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism) {
+        return new BoundedPasswordEncoder(
+                BoundedPasswordEncoder.delegating(algorithm, bcryptStrength, argon2MemoryKb, argon2Iterations, argon2Parallelism),
+                hashingExecutor);
     }
 }
@@ -0,0 +1,168 @@
+package ro.atm.backend.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ro.atm.backend.common.util.BloomFilter;
+import ro.atm.backend.domain.auth.entity.TokenRevocation;
+import ro.atm.backend.domain.user.repository.TokenRevocationRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revocation list for tokens that can no longer be trusted on their claims alone.
+ * <p>
+ * Revocations are stored per user in token_revocations: every token of the user issued before the revocation
+ * is rejected. Each instance keeps a bloom filter of the revoked usernames, so the check costs nothing for
+ * everybody else; only a filter hit is confirmed against the table. The filter is rebuilt from the table every
+ * security.revocation.reload-interval-ms, which is how revocations made on other instances are picked up.
+ * Token issue times have second precision, so a token issued within the same second as a revocation survives it.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    // Marks a filter hit that turned out not to be revoked
+    private static final long NOT_REVOKED = Long.MIN_VALUE;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final ClusterJobExecutor jobExecutor;
+    private final int expectedUsers;
+    private final double falsePositiveRate;
+    private final long refreshExpirationMillis;
+
+    private volatile BloomFilter filter;
+
+    // Confirmed lookups of filter hits (username -> revoked at, epoch millis); cleared on every reload
+    private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+
+    // Revocations committed on this instance while a reload is running
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository,
+                                  ClusterJobExecutor jobExecutor,
+                                  @Value("${security.revocation.expected-users:10000}") int expectedUsers,
+                                  @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationMillis) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.jobExecutor = jobExecutor;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshExpirationMillis = refreshExpirationMillis;
+    }
+
+    /**
+     * Revoke every token issued to a user so far; takes effect once the current transaction commits
+     */
+    @Transactional
+    public void revoke(String username) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        TokenRevocation revocation = tokenRevocationRepository.findById(username)
+                .orElseGet(() -> new TokenRevocation(username, now));
+        revocation.setRevokedAt(now);
+        tokenRevocationRepository.save(revocation);
+
+        long revokedAt = toMillis(now);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(username, revokedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(username, revokedAt);
+            }
+        });
+    }
+
+    /**
+     * Check if a token of the user issued at the given time has been revoked
+     */
+    public boolean isRevoked(String username, Date issuedAt) {
+        if (!currentFilter().mightContain(username)) {
+            return false;
+        }
+
+        Long revokedAt = confirmed.get(username);
+        if (revokedAt == null) {
+            long loaded = tokenRevocationRepository.findById(username)
+                    .map(r -> toMillis(r.getRevokedAt()))
+                    .orElse(NOT_REVOKED);
+            if (confirmed.size() >= expectedUsers) {
+                confirmed.clear();
+            }
+            // A revocation published meanwhile wins over what was just read
+            Long published = confirmed.putIfAbsent(username, loaded);
+            revokedAt = published != null ? published : loaded;
+        }
+
+        if (revokedAt == NOT_REVOKED) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() < revokedAt;
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.reload-interval-ms:30000}")
+    public void reload() {
+        pending.clear();
+        List<String> usernames = tokenRevocationRepository.findAllUsernames();
+
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedUsers, usernames.size()), falsePositiveRate);
+        usernames.forEach(rebuilt::put);
+        pending.forEach(rebuilt::put);
+
+        filter = rebuilt;
+        confirmed.clear();
+        log.debug("Token revocation filter rebuilt with {} users", usernames.size());
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        jobExecutor.runExclusively("token-revocation-purge", Duration.ofMinutes(5), () -> {
+            // Every token issued before the cutoff has expired, so its revocation is no longer needed
+            LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(refreshExpirationMillis));
+            int removed = tokenRevocationRepository.deleteRevokedBefore(cutoff);
+            if (removed > 0) {
+                log.info("Purged {} expired token revocations", removed);
+            }
+            return removed;
+        });
+    }
+
+    private void publish(String username, long revokedAt) {
+        pending.add(username);
+        currentFilter().put(username);
+        confirmed.put(username, revokedAt);
+        log.info("Tokens of user {} revoked", username);
+    }
+
+    private BloomFilter currentFilter() {
+        BloomFilter current = filter;
+        if (current == null) {
+            synchronized (this) {
+                if (filter == null) {
+                    reload();
+                }
+                current = filter;
+            }
+        }
+        return current;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,28 @@
+package ro.atm.backend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content-derived strong ETag values.
+ * The same content always yields the same tag, on every instance and across restarts.
+ */
+public final class ContentTag {
+
+    private ContentTag() {
+    }
+
+    /**
+     * First 128 bits of the SHA-256 of the content, hex encoded
+     */
+    public static String of(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package ro.atm.backend.common.util;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable index over half-open time intervals [start, end) of a single day.
+ * Items are kept in arrays sorted by start with an implicit max-end tree on top, plus
+ * sorted copies of the starts and ends, so that:
+ * <ul>
+ *     <li>overlap counts are answered in O(log n)</li>
+ *     <li>overlapping items are listed in O(log n + k), ordered by start</li>
+ *     <li>free gaps inside a window are derived from the overlapping items only</li>
+ * </ul>
+ * Intervals that do not end after they start are ignored.
+ *
+ * @param <T> the indexed item (booking, work hour, ...)
+ */
+public final class IntervalIndex<T> {
+
+    private static final IntervalIndex<?> EMPTY = new IntervalIndex<>(List.of(), t -> null, t -> null);
+
+    private final Object[] items;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnd;
+
+    // Sorted copies used for O(log n) counting: an interval overlaps [s, e) iff start < e and not end <= s
+    private final int[] sortedStarts;
+    private final int[] sortedEnds;
+
+    private IntervalIndex(Collection<T> source, Function<T, LocalTime> startFn, Function<T, LocalTime> endFn) {
+        List<Entry<T>> entries = new ArrayList<>(source.size());
+        for (T item : source) {
+            LocalTime start = startFn.apply(item);
+            LocalTime end = endFn.apply(item);
+            if (start != null && end != null && start.isBefore(end)) {
+                entries.add(new Entry<>(item, start.toSecondOfDay(), end.toSecondOfDay()));
+            }
+        }
+        entries.sort(Comparator.<Entry<T>>comparingInt(Entry::start).thenComparingInt(Entry::end));
+
+        int n = entries.size();
+        items = new Object[n];
+        starts = new int[n];
+        ends = new int[n];
+        maxEnd = new int[n];
+        sortedStarts = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            Entry<T> entry = entries.get(i);
+            items[i] = entry.item();
+            starts[i] = entry.start();
+            ends[i] = entry.end();
+            sortedStarts[i] = entry.start();
+        }
+        buildMaxEnd(0, n);
+
+        sortedEnds = ends.clone();
+        Arrays.sort(sortedEnds);
+    }
+
+    /**
+     * Build an index of the given items
+     */
+    public static <T> IntervalIndex<T> of(Collection<T> items, Function<T, LocalTime> start,
+                                          Function<T, LocalTime> end) {
+        return items.isEmpty() ? empty() : new IntervalIndex<>(items, start, end);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IntervalIndex<T> empty() {
+        return (IntervalIndex<T>) EMPTY;
+    }
+
+    /**
+     * Check if two half-open time ranges overlap
+     */
+    public static boolean overlaps(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
+        return start1.isBefore(end2) && start2.isBefore(end1);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * Number of intervals overlapping [start, end)
+     */
+    public int countOverlapping(LocalTime start, LocalTime end) {
+        int s = start.toSecondOfDay();
+        int e = end.toSecondOfDay();
+        if (s >= e) {
+            return 0;
+        }
+        return countBefore(sortedStarts, e) - countAtOrBefore(sortedEnds, s);
+    }
+
+    /**
+     * Check if any interval overlaps [start, end)
+     */
+    public boolean anyOverlapping(LocalTime start, LocalTime end) {
+        return countOverlapping(start, end) > 0;
+    }
+
+    /**
+     * Items overlapping [start, end), ordered by start time
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> findOverlapping(LocalTime start, LocalTime end) {
+        List<T> result = new ArrayList<>();
+        visitOverlapping(start.toSecondOfDay(), end.toSecondOfDay(), i -> result.add((T) items[i]));
+        return result;
+    }
+
+    /**
+     * Free sub-windows of [windowStart, windowEnd) not covered by any interval, ordered by start time
+     */
+    public List<TimeWindow> freeGaps(LocalTime windowStart, LocalTime windowEnd) {
+        int ws = windowStart.toSecondOfDay();
+        int we = windowEnd.toSecondOfDay();
+        List<TimeWindow> gaps = new ArrayList<>();
+        if (ws >= we) {
+            return gaps;
+        }
+
+        int[] cursor = {ws};
+        visitOverlapping(ws, we, i -> {
+            if (starts[i] > cursor[0]) {
+                gaps.add(TimeWindow.ofSeconds(cursor[0], starts[i]));
+            }
+            cursor[0] = Math.max(cursor[0], ends[i]);
+        });
+        if (cursor[0] < we) {
+            gaps.add(TimeWindow.ofSeconds(cursor[0], we));
+        }
+        return gaps;
+    }
+
+    private void visitOverlapping(int s, int e, IntConsumer visitor) {
+        if (s < e) {
+            visit(0, items.length, s, e, visitor);
+        }
+    }
+
+    // In-order walk of the implicit tree, pruning subtrees that end too early or start too late
+    private void visit(int lo, int hi, int s, int e, IntConsumer visitor) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] <= s) {
+            return;
+        }
+        visit(lo, mid, s, e, visitor);
+        if (starts[mid] >= e) {
+            return;
+        }
+        if (ends[mid] > s) {
+            visitor.accept(mid);
+        }
+        visit(mid + 1, hi, s, e, visitor);
+    }
+
+    private int buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    // Number of values strictly lower than key
+    private static int countBefore(int[] sorted, int key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Number of values lower than or equal to key
+    private static int countAtOrBefore(int[] sorted, int key) {
+        return countBefore(sorted, key == Integer.MAX_VALUE ? key : key + 1);
+    }
+
+    private record Entry<T>(T item, int start, int end) {
+    }
+
+    /**
+     * A half-open [start, end) window of a day
+     */
+    public record TimeWindow(LocalTime start, LocalTime end) {
+
+        static TimeWindow ofSeconds(int start, int end) {
+            return new TimeWindow(LocalTime.ofSecondOfDay(start), LocalTime.ofSecondOfDay(end));
+        }
+
+        public long durationMinutes() {
+            return (end.toSecondOfDay() - start.toSecondOfDay()) / 60L;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package ro.atm.backend.domain.activity.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,8 +15,10 @@ import ro.atm.backend.domain.activity.dto.ActivityTimeSlotDTO;
 import ro.atm.backend.domain.activity.dto.ActivityTimeSlotRequest;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
 import ro.atm.backend.domain.activity.repository.ActivityCategoryRepository;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
+import ro.atm.backend.domain.activity.service.ActivityCatalogService;
 import ro.atm.backend.domain.activity.service.ActivityTimeSlotService;
 import ro.atm.backend.domain.booking.service.BookingService;
 
@@ -30,11 +35,13 @@ public class ActivityController {
     private final BookingService bookingService;
     private final ActivityTimeSlotService timeSlotService;
     private final ro.atm.backend.domain.activity.service.ActivityEmployeeService activityEmployeeService;
+    private final ActivityCatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/all")
     public ResponseEntity<List<ActivityDTO>> getAllActiveActivities() {
-        List<ActivityDTO> activities = activityRepository.findByActiveTrue()
+        List<ActivityDTO> activities = activityRepository.findActiveWithDetails()
                 .stream()
                 .map(ActivityDTO::fromEntity)
                 .toList();
@@ -42,38 +49,28 @@ public class ActivityController {
                 .body(activities);
     }
 
+    // Public catalog reads are served from the in-memory snapshot; a matching If-None-Match yields 304
     @GetMapping
     public ResponseEntity<List<ActivityDTO>> getAllActivities() {
-        List<ActivityDTO> activities = activityRepository.findAll()
-                .stream()
-                .map(ActivityDTO::fromEntity)
-                .toList();
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(activities);
+        return catalogResponse(catalogService.getAllActivities());
     }
 
 
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<ActivityDTO>> getActivitiesByCategory(@PathVariable Long categoryId) {
-        List<ActivityDTO> activities = activityRepository.findByCategoryIdAndActiveTrue(categoryId)
-                .stream()
-                .map(ActivityDTO::fromEntity)
-                .toList();
-        return ResponseEntity.status(HttpStatus.OK)
-                .body(activities);
+        return catalogResponse(catalogService.getActiveActivitiesByCategory(categoryId));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ActivityDTO> getActivityById(@PathVariable Long id) {
-        return activityRepository.findById(id)
-                .map(ActivityDTO::fromEntity)
-                .map(ResponseEntity::ok)
+        return catalogService.getActivity(id)
+                .map(this::catalogResponse)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    public ResponseEntity<ActivityDTO> createActivity(@RequestBody ActivityRequest request) {
+    public ResponseEntity<ActivityDTO> createActivity(@Valid @RequestBody ActivityRequest request) {
         // Validate and get category
         ActivityCategory category = null;
         if (request.getCategoryId() != null) {
@@ -96,6 +93,7 @@ public class ActivityController {
 
         // Reload to get assigned employees
         Activity reloaded = activityRepository.findById(saved.getId()).orElse(saved);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(saved.getId()));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ActivityDTO.fromEntity(reloaded));
@@ -105,7 +103,7 @@ public class ActivityController {
     @PutMapping("/{id}")
     public ResponseEntity<ActivityDTO> updateActivity(
             @PathVariable Long id,
-            @RequestBody ActivityRequest request) {
+            @Valid @RequestBody ActivityRequest request) {
 
         return activityRepository.findById(id)
                 .map(existingActivity -> {
@@ -151,6 +149,7 @@ public class ActivityController {
 
                     // Reload to get updated assigned employees
                     Activity reloaded = activityRepository.findById(id).orElse(updated);
+                    eventPublisher.publishEvent(new ActivityCatalogChangedEvent(id));
 
                     return ResponseEntity.ok(ActivityDTO.fromEntity(reloaded));
                 })
@@ -163,6 +162,7 @@ public class ActivityController {
         return activityRepository.findById(id)
                 .map(activity -> {
                     activityRepository.delete(activity);
+                    eventPublisher.publishEvent(new ActivityCatalogChangedEvent(id));
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -257,4 +257,11 @@ public class ActivityController {
             @RequestBody List<Long> employeeIds) {
         return ResponseEntity.ok(activityEmployeeService.assignEmployees(id, employeeIds));
     }
-}
\ No newline at end of file
+
+    private <T> ResponseEntity<T> catalogResponse(ActivityCatalogService.Versioned<T> view) {
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(view.body());
+    }
+}
@@ -1,12 +1,14 @@
 package ro.atm.backend.domain.activity.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import ro.atm.backend.domain.activity.dto.CategoryDTO;
 import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
 import ro.atm.backend.domain.activity.repository.ActivityCategoryRepository;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
 
@@ -19,6 +21,7 @@ public class CategoryController {
 
     private final ActivityCategoryRepository categoryRepository;
     private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping
     public ResponseEntity<List<CategoryDTO>> getAllCategories() {
@@ -54,6 +57,7 @@ public class CategoryController {
         }
 
         ActivityCategory saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(null));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(CategoryDTO.fromEntity(saved));
     }
@@ -80,6 +84,7 @@ public class CategoryController {
                     category.setDisplayOrder(categoryDetails.getDisplayOrder());
 
                     ActivityCategory updated = categoryRepository.save(category);
+                    eventPublisher.publishEvent(new ActivityCatalogChangedEvent(null));
                     return ResponseEntity.ok(CategoryDTO.fromEntity(updated));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -96,6 +101,7 @@ public class CategoryController {
                     }
 
                     categoryRepository.delete(category);
+                    eventPublisher.publishEvent(new ActivityCatalogChangedEvent(null));
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -21,6 +21,7 @@ public class ActivityDTO {
     private BigDecimal depositPercent;
     private String duration; // Formatted duration
     private Integer durationMinutes;
+    private Integer slotIntervalMinutes;
     private String location;
     private LocationDetailsDTO locationDetails; // Add this field
     private CategoryDTO category;
@@ -43,6 +44,7 @@ public class ActivityDTO {
                 .depositPercent(activity.getDepositPercent())
                 .duration(activity.getFormattedDuration())
                 .durationMinutes(activity.getDurationMinutes())
+                .slotIntervalMinutes(activity.getEffectiveSlotIntervalMinutes())
                 .location(activity.getLocation())
                 .locationDetails(LocationDetailsDTO.fromEntity(activity.getLocationDetails())) // Add this
                 .category(activity.getCategory() != null ? CategoryDTO.fromEntity(activity.getCategory()) : null)
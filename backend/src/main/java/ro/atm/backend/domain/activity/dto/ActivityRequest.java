@@ -1,7 +1,9 @@
 // src/main/java/ro/atm/backend/dto/ActivityRequest.java
 package ro.atm.backend.domain.activity.dto;
 
+import jakarta.validation.constraints.Min;
 import lombok.*;
+import ro.atm.backend.common.constants.BookingConstants;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityCategory;
 import ro.atm.backend.domain.activity.entity.LocationDetails;
@@ -21,6 +23,9 @@ public class ActivityRequest {
     private BigDecimal pricePerPerson;
     private BigDecimal depositPercent;
     private Integer durationMinutes;
+    @Min(value = BookingConstants.MIN_BOOKING_SLOT_MINUTES,
+            message = "Slot interval must be at least " + BookingConstants.MIN_BOOKING_SLOT_MINUTES + " minutes")
+    private Integer slotIntervalMinutes;
     private String location;
     private LocationDetailsDTO locationDetails;
     private Long categoryId;
@@ -37,6 +42,7 @@ public class ActivityRequest {
                 .pricePerPerson(this.pricePerPerson)
                 .depositPercent(this.depositPercent)
                 .durationMinutes(this.durationMinutes)
+                .slotIntervalMinutes(this.slotIntervalMinutes)
                 .location(this.location)
                 .category(category)
                 .active(this.active != null ? this.active : true)
@@ -59,6 +65,7 @@ public class ActivityRequest {
         activity.setPricePerPerson(this.pricePerPerson);
         activity.setDepositPercent(this.depositPercent);
         activity.setDurationMinutes(this.durationMinutes);
+        activity.setSlotIntervalMinutes(this.slotIntervalMinutes);
         activity.setLocation(this.location);
         activity.setCategory(category);
         activity.setActive(this.active != null ? this.active : true);
@@ -2,8 +2,10 @@ package ro.atm.backend.domain.activity.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import ro.atm.backend.common.constants.BookingConstants;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = Activity.GRAPH_DETAILS, attributeNodes = @NamedAttributeNode("category"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -18,6 +21,12 @@ import java.util.List;
 @Builder
 public class Activity {
 
+    /**
+     * Loads the category with the activity; the child collections below are batch-fetched, so a list of
+     * activities and all their media, time slots and assignments costs a bounded number of statements
+     */
+    public static final String GRAPH_DETAILS = "Activity.details";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -43,6 +52,9 @@ public class Activity {
     @Column(nullable = false)
     private Integer durationMinutes; // Duration in minutes
 
+    // Step between candidate start times when the activity has no fixed time slots; null uses the default
+    private Integer slotIntervalMinutes;
+
     @Column(nullable = false)
     private String location;
 
@@ -61,14 +73,17 @@ public class Activity {
     private Boolean employeeSelectionEnabled = false;
 
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Media> mediaList = new ArrayList<>();
 
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<ActivityTimeSlot> timeSlots = new ArrayList<>();
 
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<ActivityEmployee> activityEmployees = new ArrayList<>();
 
@@ -85,6 +100,14 @@ public class Activity {
         return pricePerPerson.multiply(depositPercent).divide(new BigDecimal("100"));
     }
 
+    public int getEffectiveSlotIntervalMinutes() {
+        if (slotIntervalMinutes == null) {
+            return BookingConstants.DEFAULT_BOOKING_SLOT_MINUTES;
+        }
+        // Requests below the minimum are rejected; the floor only guards rows saved before that check
+        return Math.max(slotIntervalMinutes, BookingConstants.MIN_BOOKING_SLOT_MINUTES);
+    }
+
     public String getFormattedDuration() {
         int hours = durationMinutes / 60;
         int minutes = durationMinutes % 60;
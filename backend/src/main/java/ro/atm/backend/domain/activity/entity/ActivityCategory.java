@@ -2,6 +2,9 @@ package ro.atm.backend.domain.activity.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -9,6 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -38,6 +43,7 @@ public class ActivityCategory {
     private Integer displayOrder = 0; // For sorting categories in UI
 
     @OneToMany(mappedBy = "category")
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Activity> activities = new ArrayList<>();
 
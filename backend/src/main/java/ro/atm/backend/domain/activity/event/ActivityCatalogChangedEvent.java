@@ -0,0 +1,15 @@
+package ro.atm.backend.domain.activity.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever an activity, its category, media, time slots or employee assignments change.
+ * Listeners use it to rebuild the public activity catalog; activityId is null for category-wide changes.
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityCatalogChangedEvent {
+
+    private final Long activityId;
+}
@@ -1,6 +1,9 @@
 package ro.atm.backend.domain.activity.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ro.atm.backend.domain.activity.entity.ActivityCategory;
 
@@ -10,8 +13,10 @@ import java.util.Optional;
 @Repository
 public interface ActivityCategoryRepository extends JpaRepository<ActivityCategory, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ActivityCategory> findBySlug(String slug);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ActivityCategory> findByActiveTrueOrderByDisplayOrderAsc();
 
     boolean existsByName(String name);
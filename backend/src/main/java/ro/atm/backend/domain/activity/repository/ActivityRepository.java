@@ -1,5 +1,6 @@
 package ro.atm.backend.domain.activity.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,6 +14,15 @@ public interface ActivityRepository extends JpaRepository<Activity, Long> {
 
     List<Activity> findByActiveTrue();
 
+    // Detail loaders: category in the same statement, child collections batch-fetched on first access
+    @EntityGraph(Activity.GRAPH_DETAILS)
+    @Query("SELECT a FROM Activity a ORDER BY a.id")
+    List<Activity> findAllWithDetails();
+
+    @EntityGraph(Activity.GRAPH_DETAILS)
+    @Query("SELECT a FROM Activity a WHERE a.active = true ORDER BY a.id")
+    List<Activity> findActiveWithDetails();
+
     List<Activity> findByCategoryId(Long categoryId);
 
     List<Activity> findByCategoryIdAndActiveTrue(Long categoryId);
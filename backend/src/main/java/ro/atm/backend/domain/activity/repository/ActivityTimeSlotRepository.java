@@ -1,7 +1,10 @@
 package ro.atm.backend.domain.activity.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ro.atm.backend.domain.activity.entity.ActivityTimeSlot;
@@ -17,8 +20,9 @@ public interface ActivityTimeSlotRepository extends JpaRepository<ActivityTimeSl
     List<ActivityTimeSlot> findByActivityId(Long activityId);
 
     /**
-     * Find active time slots for a specific activity
+     * Find active time slots for a specific activity (query cache, checked on every slot lookup)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ActivityTimeSlot> findByActivityIdAndActiveTrue(Long activityId);
 
     /**
@@ -0,0 +1,168 @@
+package ro.atm.backend.domain.activity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.atm.backend.common.util.ContentTag;
+import ro.atm.backend.domain.activity.dto.ActivityDTO;
+import ro.atm.backend.domain.activity.dto.AssignedEmployeeDTO;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
+import ro.atm.backend.domain.activity.repository.ActivityRepository;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the public activity catalog.
+ * The snapshot is built from the database and dropped after any catalog write is committed on this instance,
+ * so anonymous page views are served from memory; it is also rebuilt once older than
+ * activity.catalog.max-age-seconds, which is how writes made on other instances are picked up. Every view carries a strong ETag derived from its content,
+ * which stays stable across restarts and instances as long as the catalog does not change.
+ * Returned DTOs are shared and must not be modified.
+ */
+@Service
+@Slf4j
+public class ActivityCatalogService {
+
+    private final ActivityRepository activityRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${activity.catalog.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    private volatile CatalogSnapshot snapshot;
+
+    // Bumped on every invalidation so that a snapshot built concurrently with a change is not kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ActivityCatalogService(ActivityRepository activityRepository, PlatformTransactionManager transactionManager) {
+        this.activityRepository = activityRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * A catalog view together with its ETag
+     */
+    public record Versioned<T>(T body, String etag) {
+    }
+
+    /**
+     * Every activity (active or not), ordered by id
+     */
+    public Versioned<List<ActivityDTO>> getAllActivities() {
+        return current().all();
+    }
+
+    /**
+     * Active activities of a category, ordered by id
+     */
+    public Versioned<List<ActivityDTO>> getActiveActivitiesByCategory(Long categoryId) {
+        CatalogSnapshot current = current();
+        return current.activeByCategory().getOrDefault(categoryId, current.emptyList());
+    }
+
+    public Optional<Versioned<ActivityDTO>> getActivity(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ActivityCatalogChangedEvent event) {
+        invalidate();
+    }
+
+    // Assigned employees are part of the catalog, so their profile changes are too; other accounts are not
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        CatalogSnapshot current = snapshot;
+        // Without a snapshot a build may be in progress; invalidating only keeps it from being stored
+        if (current == null || current.assignedEmployeeIds().contains(event.getUserId())) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drop the snapshot; the next read rebuilds it
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        snapshot = null;
+        log.debug("Activity catalog invalidated");
+    }
+
+    private CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            long generation = invalidations.get();
+            current = readOnlyTransaction.execute(status -> build());
+            if (invalidations.get() == generation) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private boolean isFresh(CatalogSnapshot current) {
+        return current != null && System.currentTimeMillis() - current.builtAt() <= maxAgeSeconds * 1000L;
+    }
+
+    private CatalogSnapshot build() {
+        List<ActivityDTO> activities = activityRepository.findAllWithDetails().stream()
+                .map(ActivityDTO::fromEntity)
+                .toList();
+
+        Map<Long, Versioned<ActivityDTO>> byId = new HashMap<>();
+        for (ActivityDTO activity : activities) {
+            byId.put(activity.getId(), new Versioned<>(activity, ContentTag.of(activity.toString())));
+        }
+
+        Map<Long, List<ActivityDTO>> activeByCategory = activities.stream()
+                .filter(a -> Boolean.TRUE.equals(a.getActive()) && a.getCategory() != null)
+                .collect(Collectors.groupingBy(a -> a.getCategory().getId()));
+
+        Map<Long, Versioned<List<ActivityDTO>>> categoryViews = new HashMap<>();
+        activeByCategory.forEach((categoryId, list) -> categoryViews.put(categoryId, listView(list, byId)));
+
+        Set<Long> assignedEmployeeIds = activities.stream()
+                .filter(a -> a.getAssignedEmployees() != null)
+                .flatMap(a -> a.getAssignedEmployees().stream())
+                .map(AssignedEmployeeDTO::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        log.info("Activity catalog rebuilt with {} activities", activities.size());
+        return new CatalogSnapshot(listView(activities, byId), Map.copyOf(byId), Map.copyOf(categoryViews),
+                listView(List.of(), byId), assignedEmployeeIds, System.currentTimeMillis());
+    }
+
+    // The ETag of a list is derived from the ETags of its items
+    private static Versioned<List<ActivityDTO>> listView(List<ActivityDTO> activities, Map<Long, Versioned<ActivityDTO>> byId) {
+        String itemTags = activities.stream()
+                .map(a -> byId.get(a.getId()).etag())
+                .collect(Collectors.joining(","));
+        return new Versioned<>(List.copyOf(activities), ContentTag.of("[" + itemTags + "]"));
+    }
+
+    private record CatalogSnapshot(Versioned<List<ActivityDTO>> all,
+                                   Map<Long, Versioned<ActivityDTO>> byId,
+                                   Map<Long, Versioned<List<ActivityDTO>>> activeByCategory,
+                                   Versioned<List<ActivityDTO>> emptyList,
+                                   Set<Long> assignedEmployeeIds,
+                                   long builtAt) {
+    }
+}
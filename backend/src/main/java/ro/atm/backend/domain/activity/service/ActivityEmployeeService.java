@@ -2,11 +2,13 @@ package ro.atm.backend.domain.activity.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ro.atm.backend.domain.activity.dto.AssignedEmployeeDTO;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityEmployee;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
 import ro.atm.backend.domain.activity.repository.ActivityEmployeeRepository;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
 import ro.atm.backend.domain.auth.entity.User;
@@ -22,6 +24,7 @@ public class ActivityEmployeeService {
     private final ActivityEmployeeRepository activityEmployeeRepository;
     private final ActivityRepository activityRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all employees assigned to an activity
@@ -62,6 +65,7 @@ public class ActivityEmployeeService {
             if (!existing.getActive()) {
                 existing.setActive(true);
                 activityEmployeeRepository.save(existing);
+                eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
             }
             return AssignedEmployeeDTO.fromUser(employee);
         }
@@ -74,6 +78,7 @@ public class ActivityEmployeeService {
                 .build();
 
         activityEmployeeRepository.save(activityEmployee);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
         return AssignedEmployeeDTO.fromUser(employee);
     }
 
@@ -94,6 +99,7 @@ public class ActivityEmployeeService {
         // Soft delete by setting active = false
         activityEmployee.setActive(false);
         activityEmployeeRepository.save(activityEmployee);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
     }
 
     /**
@@ -106,6 +112,7 @@ public class ActivityEmployeeService {
 
         activity.setEmployeeSelectionEnabled(enabled);
         activityRepository.save(activity);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
     }
 
     /**
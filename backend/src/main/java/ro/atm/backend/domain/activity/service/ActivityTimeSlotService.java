@@ -2,6 +2,7 @@ package ro.atm.backend.domain.activity.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ro.atm.backend.common.exception.ResourceNotFoundException;
@@ -9,6 +10,7 @@ import ro.atm.backend.domain.activity.dto.ActivityTimeSlotDTO;
 import ro.atm.backend.domain.activity.dto.ActivityTimeSlotRequest;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityTimeSlot;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
 import ro.atm.backend.domain.activity.repository.ActivityTimeSlotRepository;
 
@@ -24,6 +26,7 @@ public class ActivityTimeSlotService {
 
     private final ActivityTimeSlotRepository timeSlotRepository;
     private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all time slots for an activity
@@ -50,6 +53,7 @@ public class ActivityTimeSlotService {
 
         ActivityTimeSlot saved = timeSlotRepository.save(timeSlot);
         log.info("Created time slot {} for activity {}", saved.getId(), activityId);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
 
         return ActivityTimeSlotDTO.fromEntity(saved);
     }
@@ -77,6 +81,7 @@ public class ActivityTimeSlotService {
         ActivityTimeSlot updated = timeSlotRepository.save(timeSlot);
 
         log.info("Updated time slot {} for activity {}", timeSlotId, activityId);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
 
         return ActivityTimeSlotDTO.fromEntity(updated);
     }
@@ -101,6 +106,7 @@ public class ActivityTimeSlotService {
         timeSlotRepository.delete(timeSlot);
 
         log.info("Deleted time slot {} for activity {}", timeSlotId, activityId);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
     }
 
     /**
@@ -1,11 +1,13 @@
 package ro.atm.backend.domain.activity.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.Media;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
 import ro.atm.backend.domain.activity.repository.MediaRepository;
 import ro.atm.backend.infrastructure.storage.R2StorageService;
@@ -19,6 +21,7 @@ public class MediaService {
     private final R2StorageService storageService;
     private final MediaRepository mediaRepository;
     private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String uploadFile(MultipartFile file,
@@ -39,6 +42,7 @@ public class MediaService {
         media.setUrl(url);
 
         mediaRepository.save(media);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(activityId));
 
         return url;
     }
@@ -97,6 +101,7 @@ public class MediaService {
 
         // Delete from database
         mediaRepository.delete(media);
+        eventPublisher.publishEvent(new ActivityCatalogChangedEvent(media.getActivity().getId()));
     }
 
     private String extractFileNameFromUrl(String url) {
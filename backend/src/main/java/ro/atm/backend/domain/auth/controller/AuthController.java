@@ -1,10 +1,12 @@
 package ro.atm.backend.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.web.bind.annotation.*;
+import ro.atm.backend.common.security.LoginRateLimiter;
 import ro.atm.backend.domain.auth.dto.LoginRequest;
 import ro.atm.backend.domain.auth.dto.LoginResponse;
 import ro.atm.backend.domain.auth.dto.RegisterRequest;
@@ -19,6 +21,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthenticationService authenticationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @PostMapping("/register")
     public ResponseEntity<UserDTO> register(@RequestBody RegisterRequest request) {
@@ -26,11 +29,36 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Throttled before any password is hashed
+        loginRateLimiter.check(LoginRateLimiter.Action.LOGIN, request.getUsername(), httpRequest.getRemoteAddr());
+
         LoginResponse response = authenticationService.login(request);
+        if (response.getToken() != null) {
+            loginRateLimiter.reset(LoginRateLimiter.Action.LOGIN, request.getUsername());
+        }
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody Map<String, String> request) {
+        String refreshToken = request.get("refreshToken");
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(authenticationService.refresh(refreshToken));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody Map<String, String> request) {
+        String refreshToken = request.get("refreshToken");
+        if (refreshToken != null && !refreshToken.isEmpty()) {
+            authenticationService.logout(refreshToken);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/verify")
     public ResponseEntity<String> verifyAccount(@RequestParam("token") String token) {
         authenticationService.verifyAccount(token);
@@ -50,12 +78,15 @@ public class AuthController {
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<String> forgotPassword(@RequestBody Map<String, String> request) {
+    public ResponseEntity<String> forgotPassword(@RequestBody Map<String, String> request,
+                                                 HttpServletRequest httpRequest) {
         String email = request.get("email");
         if (email == null || email.isEmpty()) {
             return ResponseEntity.badRequest().body("Email is required");
         }
 
+        loginRateLimiter.check(LoginRateLimiter.Action.PASSWORD_RESET, email, httpRequest.getRemoteAddr());
+
         authenticationService.forgotPassword(email);
         return ResponseEntity.ok("Password reset link sent to your email.");
     }
@@ -12,6 +12,7 @@ import ro.atm.backend.domain.user.dto.UserDTO;
 @NoArgsConstructor
 public class LoginResponse {
     private String token;
+    private String refreshToken;
     private UserDTO user;
     private boolean requiresTotp; // If true, client should prompt for TOTP
     private String tempToken; // Temporary token for TOTP verification
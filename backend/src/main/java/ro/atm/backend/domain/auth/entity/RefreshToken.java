@@ -0,0 +1,34 @@
+package ro.atm.backend.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A refresh token that has been issued, by its jti. A token can be exchanged once: usedAt is set on refresh
+ * and on logout, and presenting a used token again is treated as theft. Rows are purged once expired.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;
+}
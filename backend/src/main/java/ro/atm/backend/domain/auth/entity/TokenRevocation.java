@@ -0,0 +1,29 @@
+package ro.atm.backend.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks every token of a user issued before revokedAt as no longer valid (account disabled, deleted,
+ * roles changed or password reset). Rows older than the refresh token lifetime are purged, since every
+ * token they could reject has expired by then.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -2,6 +2,7 @@ package ro.atm.backend.domain.auth.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -49,6 +50,7 @@ public class User implements UserDetails, CredentialsContainer {
     private Boolean totpEnabled = false;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 50)
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
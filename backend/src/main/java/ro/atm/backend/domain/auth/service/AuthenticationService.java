@@ -1,7 +1,10 @@
 package ro.atm.backend.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,9 +18,12 @@ import ro.atm.backend.domain.auth.dto.RegisterRequest;
 import ro.atm.backend.domain.auth.entity.Role;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.user.dto.UserDTO;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
 import ro.atm.backend.domain.user.repository.RoleRepository;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.common.security.JwtService;
+import ro.atm.backend.common.security.RefreshTokenService;
+import ro.atm.backend.common.security.TokenRevocationService;
 import ro.atm.backend.common.exception.UsernameAlreadyExistsException;
 import ro.atm.backend.common.exception.InvalidCredentialsException;
 import ro.atm.backend.common.exception.InvalidTotpCodeException;
@@ -41,6 +47,9 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final TotpService totpService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public UserDTO register(RegisterRequest request) {
@@ -68,6 +77,7 @@ public class AuthenticationService {
         user.setVerificationToken(token);
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
 
         // 3. Send Email
         emailService.sendAccountVerificationEmail(user.getEmail(), user.getFirstName(), token);
@@ -87,6 +97,7 @@ public class AuthenticationService {
         user.setEnabled(true);
         user.setVerificationToken(null); // Optional: Clear token after use
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
     }
 
     public void resendVerificationEmail(String email) {
@@ -129,12 +140,7 @@ public class AuthenticationService {
                 log.info("TOTP verification successful for user: {}", user.getUsername());
 
                 // TOTP verified, proceed with login
-                String token = jwtService.generateToken(user);
-                return LoginResponse.builder()
-                        .token(token)
-                        .user(UserDTO.fromEntity(user))
-                        .requiresTotp(false)
-                        .build();
+                return issueTokens(user);
             } else {
                 log.info("TOTP required for user: {}", user.getUsername());
                 // TOTP required but not provided
@@ -148,9 +154,55 @@ public class AuthenticationService {
 
         log.info("No TOTP required for user: {}", user.getUsername());
         // No TOTP required, proceed with login
-        String token = jwtService.generateToken(user);
+        return issueTokens(user);
+    }
+
+    /**
+     * Exchange a refresh token for a new access and refresh token pair.
+     * The refresh token is consumed, so it cannot be used again.
+     * The user is read again, so disabled accounts and role changes are picked up here.
+     */
+    public LoginResponse refresh(String refreshToken) {
+        Claims claims = parseRefreshToken(refreshToken);
+        refreshTokenService.consume(claims);
+
+        User user = userRepository.findByUsername(claims.getSubject())
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid or expired refresh token"));
+        if (!user.isEnabled() || tokenRevocationService.isRevoked(user.getUsername(), claims.getIssuedAt())) {
+            throw new InvalidCredentialsException("Invalid or expired refresh token");
+        }
+
+        return issueTokens(user);
+    }
+
+    /**
+     * Invalidate the refresh token of a session; invalid or expired tokens are ignored
+     */
+    public void logout(String refreshToken) {
+        try {
+            refreshTokenService.logout(parseRefreshToken(refreshToken));
+        } catch (InvalidCredentialsException e) {
+            log.debug("Logout with an invalid refresh token ignored");
+        }
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtService.parseToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidCredentialsException("Invalid or expired refresh token");
+        }
+        if (!jwtService.isRefreshToken(claims)) {
+            throw new InvalidCredentialsException("Invalid or expired refresh token");
+        }
+        return claims;
+    }
+
+    private LoginResponse issueTokens(User user) {
         return LoginResponse.builder()
-                .token(token)
+                .token(jwtService.generateToken(user))
+                .refreshToken(refreshTokenService.issue(user))
                 .user(UserDTO.fromEntity(user))
                 .requiresTotp(false)
                 .build();
@@ -192,5 +244,8 @@ public class AuthenticationService {
         user.setResetPasswordTokenExpiry(null);
 
         userRepository.save(user);
+        // Sessions opened with the old password end here
+        tokenRevocationService.revoke(user.getUsername());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
     }
 }
@@ -0,0 +1,104 @@
+package ro.atm.backend.domain.auth.service;
+
+import dev.samstevens.totp.exceptions.QrGenerationException;
+import dev.samstevens.totp.qr.QrData;
+import dev.samstevens.totp.qr.QrGenerator;
+import dev.samstevens.totp.qr.ZxingPngQrGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ro.atm.backend.common.exception.ServiceBusyException;
+
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders TOTP setup QR codes on a small bounded pool, so a burst of setup calls cannot tie up request threads.
+ * Every setup uses a fresh secret, so nothing is kept after the response: the PNG carries a live secret.
+ * A full pool fails fast with a 503.
+ */
+@Component
+@Slf4j
+public class TotpQrCodeRenderer {
+
+    private final QrGenerator qrGenerator;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    @Autowired
+    public TotpQrCodeRenderer(@Value("${security.totp.qr.threads:2}") int threads,
+                              @Value("${security.totp.qr.queue-capacity:32}") int queueCapacity,
+                              @Value("${security.totp.qr.timeout-ms:5000}") long timeoutMillis) {
+        this(new ZxingPngQrGenerator(), threads, queueCapacity, timeoutMillis);
+    }
+
+    TotpQrCodeRenderer(QrGenerator qrGenerator, int threads, int queueCapacity, long timeoutMillis) {
+        this.qrGenerator = qrGenerator;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread thread = new Thread(r, "totp-qr-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Render the QR code of the given otpauth data as a data URL
+     */
+    public String renderDataUrl(QrData data) throws QrGenerationException {
+        byte[] png = await(render(data));
+        return "data:" + qrGenerator.getImageMimeType() + ";base64," + Base64.getEncoder().encodeToString(png);
+    }
+
+    private CompletableFuture<byte[]> render(QrData data) {
+        CompletableFuture<byte[]> png = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    png.complete(qrGenerator.generate(data));
+                } catch (Exception e) {
+                    png.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("QR code rendering pool saturated ({} queued)", executor.getQueue().size());
+            throw new ServiceBusyException("The server is busy, please try again in a moment");
+        }
+        return png;
+    }
+
+    private byte[] await(CompletableFuture<byte[]> png) throws QrGenerationException {
+        try {
+            return png.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            png.cancel(false);
+            throw new ServiceBusyException("The server is busy, please try again in a moment");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering the QR code", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof QrGenerationException qrException) {
+                throw qrException;
+            }
+            throw new QrGenerationException("Failed to render the QR code", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
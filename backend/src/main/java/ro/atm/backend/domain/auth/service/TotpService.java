@@ -4,16 +4,26 @@ import dev.samstevens.totp.code.*;
 import dev.samstevens.totp.exceptions.CodeGenerationException;
 import dev.samstevens.totp.exceptions.QrGenerationException;
 import dev.samstevens.totp.qr.QrData;
-import dev.samstevens.totp.qr.QrGenerator;
-import dev.samstevens.totp.qr.ZxingPngQrGenerator;
 import dev.samstevens.totp.secret.DefaultSecretGenerator;
 import dev.samstevens.totp.time.SystemTimeProvider;
 import dev.samstevens.totp.time.TimeProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
-import java.util.Base64;
-
+import ro.atm.backend.common.util.ContentTag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TOTP secrets, setup QR codes (rendered by TotpQrCodeRenderer) and code verification.
+ * The code generator and time source are stateless and shared by all calls. A code is accepted within
+ * security.totp.allowed-discrepancy periods of the current one, and only once: a bounded replay cache remembers
+ * the last accepted time step per secret and rejects codes of that step or earlier. The cache is per instance.
+ */
 @Service
 @Slf4j
 public class TotpService {
@@ -21,13 +31,38 @@ public class TotpService {
     private static final String ISSUER = "Dorna Adventure";
     private static final int TOTP_DIGITS = 6;
     private static final int TOTP_PERIOD = 30;
-    private static final int ALLOWED_TIME_DISCREPANCY = 1; // Allow 1 time window (30s) before/after
+    private static final int MAX_DISCREPANCY = 10;
+
+    private final TotpQrCodeRenderer qrCodeRenderer;
+    private final TimeProvider timeProvider;
+    private final CodeGenerator codeGenerator;
+    private final DefaultSecretGenerator secretGenerator = new DefaultSecretGenerator();
+    private final int allowedDiscrepancy;
+    private final int replayCacheMaxEntries;
+
+    // Secret digest -> last accepted time step
+    private final Map<String, Long> usedTimeSteps = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TotpService(TotpQrCodeRenderer qrCodeRenderer,
+                       @Value("${security.totp.allowed-discrepancy:1}") int allowedDiscrepancy, // 1 period (30s) before/after
+                       @Value("${security.totp.replay-cache.max-entries:10000}") int replayCacheMaxEntries) {
+        this(qrCodeRenderer, new SystemTimeProvider(), allowedDiscrepancy, replayCacheMaxEntries);
+    }
+
+    TotpService(TotpQrCodeRenderer qrCodeRenderer, TimeProvider timeProvider, int allowedDiscrepancy,
+                int replayCacheMaxEntries) {
+        this.qrCodeRenderer = qrCodeRenderer;
+        this.timeProvider = timeProvider;
+        this.codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, TOTP_DIGITS);
+        this.allowedDiscrepancy = clampDiscrepancy(allowedDiscrepancy);
+        this.replayCacheMaxEntries = replayCacheMaxEntries;
+    }
 
     /**
      * Generate a new TOTP secret
      */
     public String generateSecret() {
-        DefaultSecretGenerator secretGenerator = new DefaultSecretGenerator();
         String secret = secretGenerator.generate();
         log.info("Generated TOTP secret (length: {})", secret.length());
         return secret;
@@ -46,18 +81,29 @@ public class TotpService {
                 .period(TOTP_PERIOD)
                 .build();
 
-        QrGenerator generator = new ZxingPngQrGenerator();
-        byte[] imageData = generator.generate(data);
-        String base64Image = Base64.getEncoder().encodeToString(imageData);
-
+        String dataUrl = qrCodeRenderer.renderDataUrl(data);
         log.info("Generated QR code for user: {}", username);
-        return "data:image/png;base64," + base64Image;
+        return dataUrl;
     }
 
     /**
      * Verify TOTP code with time tolerance
      */
     public boolean verifyCode(String secret, String code) {
+        return verifyCodeWithDiscrepancy(secret, code, allowedDiscrepancy);
+    }
+
+    /**
+     * Generate current TOTP code (for testing/debugging only)
+     */
+    public String generateCurrentCode(String secret) throws CodeGenerationException {
+        return codeGenerator.generate(secret, currentTimeStep());
+    }
+
+    /**
+     * Verify code with custom time discrepancy (in periods before/after the current one)
+     */
+    public boolean verifyCodeWithDiscrepancy(String secret, String code, int discrepancy) {
         if (secret == null || code == null) {
             log.error("Secret or code is null");
             return false;
@@ -66,63 +112,68 @@ public class TotpService {
         String cleanCode = code.replaceAll("[^0-9]", "");
 
         if (cleanCode.length() != TOTP_DIGITS) {
-            log.error("Invalid code length: {} (expected {})", cleanCode.length(), TOTP_DIGITS);
+            log.warn("Invalid code length: {} (expected {})", cleanCode.length(), TOTP_DIGITS);
             return false;
         }
 
         try {
-            TimeProvider timeProvider = new SystemTimeProvider();
-            CodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, TOTP_DIGITS);
-
-            CodeVerifier verifier = new DefaultCodeVerifier(codeGenerator, timeProvider);
-
-            boolean isValid = verifier.isValidCode(secret, cleanCode);
-
-            if (isValid) {
-                log.info("TOTP code verified successfully");
-            } else {
-                log.warn("TOTP code verification failed. Code: {}", cleanCode);
+            long currentStep = currentTimeStep();
+            long matchedStep = matchingTimeStep(secret, cleanCode, currentStep, clampDiscrepancy(discrepancy));
+            if (matchedStep == Long.MIN_VALUE) {
+                log.warn("TOTP code verification failed");
+                return false;
+            }
 
-                long currentBucket = Math.floorDiv(timeProvider.getTime(), TOTP_PERIOD);
-                String expectedCode = codeGenerator.generate(secret, currentBucket);
-                log.debug("Expected code at current time: {} (server time: {})",
-                        expectedCode, timeProvider.getTime());
+            if (!markUsed(secret, matchedStep, currentStep)) {
+                log.warn("TOTP code rejected: already used");
+                return false;
             }
 
-            return isValid;
+            log.info("TOTP code verified successfully");
+            return true;
         } catch (Exception e) {
             log.error("Error verifying TOTP code", e);
             return false;
         }
     }
 
-    /**
-     * Generate current TOTP code (for testing/debugging only)
-     */
-    public String generateCurrentCode(String secret) throws CodeGenerationException {
-        TimeProvider timeProvider = new SystemTimeProvider();
-        CodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, TOTP_DIGITS);
-        long currentBucket = Math.floorDiv(timeProvider.getTime(), TOTP_PERIOD);
-        String code = codeGenerator.generate(secret, currentBucket);
-
-        log.debug("Generated test code: {} at time: {}", code, timeProvider.getTime());
-        return code;
+    // Every step of the window is checked, with constant-time comparisons, so timing reveals nothing about the match
+    private long matchingTimeStep(String secret, String code, long currentStep, int discrepancy)
+            throws CodeGenerationException {
+        byte[] given = code.getBytes(StandardCharsets.US_ASCII);
+        long matched = Long.MIN_VALUE;
+        for (long step = currentStep - discrepancy; step <= currentStep + discrepancy; step++) {
+            byte[] expected = codeGenerator.generate(secret, step).getBytes(StandardCharsets.US_ASCII);
+            if (MessageDigest.isEqual(expected, given) && matched == Long.MIN_VALUE) {
+                matched = step;
+            }
+        }
+        return matched;
     }
 
-    /**
-     * Verify code with custom time discrepancy
-     */
-    public boolean verifyCodeWithDiscrepancy(String secret, String code, int discrepancy) {
-        if (secret == null || code == null) {
-            return false;
+    // Atomically records the step as used; false if this or a later step of the secret was already accepted
+    private boolean markUsed(String secret, long step, long currentStep) {
+        if (usedTimeSteps.size() >= replayCacheMaxEntries) {
+            // Steps this old are outside any verification window, so they can no longer block anything
+            usedTimeSteps.values().removeIf(used -> used < currentStep - MAX_DISCREPANCY);
         }
 
-        String cleanCode = code.replaceAll("[^0-9]", "");
+        boolean[] fresh = {false};
+        usedTimeSteps.compute(ContentTag.of(secret), (key, lastUsed) -> {
+            if (lastUsed != null && lastUsed >= step) {
+                return lastUsed;
+            }
+            fresh[0] = true;
+            return step;
+        });
+        return fresh[0];
+    }
 
-        TimeProvider timeProvider = new SystemTimeProvider();
-        CodeGenerator codeGenerator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, TOTP_DIGITS);
-        CodeVerifier verifier = new DefaultCodeVerifier(codeGenerator, timeProvider);
+    private long currentTimeStep() {
+        return Math.floorDiv(timeProvider.getTime(), TOTP_PERIOD);
+    }
 
-        return verifier.isValidCode(secret, cleanCode);
+    private static int clampDiscrepancy(int discrepancy) {
+        return Math.max(0, Math.min(MAX_DISCREPANCY, discrepancy));
     }
 }
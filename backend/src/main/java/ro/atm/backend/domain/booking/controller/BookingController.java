@@ -2,14 +2,25 @@ package ro.atm.backend.domain.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ro.atm.backend.common.export.ExportFormat;
 import ro.atm.backend.domain.booking.dto.BookingDTO;
+import ro.atm.backend.domain.booking.dto.BookingHoldDTO;
+import ro.atm.backend.domain.booking.dto.BookingHoldRequest;
+import ro.atm.backend.domain.booking.dto.BookingPageDTO;
+import ro.atm.backend.domain.booking.dto.BookingSearchCriteria;
 import ro.atm.backend.domain.booking.dto.BookingRequest;
 import ro.atm.backend.domain.booking.dto.GuestBookingRequest;
 import ro.atm.backend.domain.booking.dto.TimeSlotDTO;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.service.BookingExportService;
+import ro.atm.backend.domain.booking.service.BookingHoldService;
 import ro.atm.backend.domain.booking.service.BookingService;
 
 import java.time.LocalDate;
@@ -23,6 +34,8 @@ import java.util.Map;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingHoldService bookingHoldService;
+    private final BookingExportService bookingExportService;
 
     @GetMapping("/available-slots")
     public ResponseEntity<List<TimeSlotDTO>> getAvailableTimeSlots(
@@ -42,6 +55,19 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.createBooking(request, username));
     }
 
+    @PostMapping("/holds")
+    public ResponseEntity<BookingHoldDTO> createHold(
+            @RequestBody BookingHoldRequest request,
+            Authentication authentication) {
+        return ResponseEntity.ok(bookingHoldService.createHold(request, authentication.getName()));
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(@PathVariable Long holdId, Authentication authentication) {
+        bookingHoldService.releaseHold(holdId, authentication.getName());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/my-bookings")
     public ResponseEntity<List<BookingDTO>> getMyBookings(Authentication authentication) {
         String username = authentication.getName();
@@ -54,6 +80,43 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getAllBookings());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BookingPageDTO> getBookingsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Booking.BookingStatus status,
+            @RequestParam(required = false) Booking.PaymentStatus paymentStatus,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) Long activityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        BookingSearchCriteria criteria = BookingSearchCriteria.builder()
+                .status(status)
+                .paymentStatus(paymentStatus)
+                .employeeId(employeeId)
+                .activityId(activityId)
+                .fromDate(from)
+                .toDate(to)
+                .build();
+        return ResponseEntity.ok(bookingService.getBookingsPage(criteria, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        String filename = "bookings-" + LocalDate.now() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> bookingExportService.export(format, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BookingDTO> getBookingById(@PathVariable Long id) {
         return ResponseEntity.ok(bookingService.getBookingById(id));
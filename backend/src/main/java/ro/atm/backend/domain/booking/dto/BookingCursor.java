@@ -0,0 +1,40 @@
+package ro.atm.backend.domain.booking.dto;
+
+import ro.atm.backend.common.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position in the bookings list, ordered by (bookingDate, id) descending.
+ * Sent to clients as an opaque URL-safe token.
+ */
+public record BookingCursor(LocalDate bookingDate, Long id) {
+
+    public static BookingCursor after(BookingListRow row) {
+        return new BookingCursor(row.bookingDate(), row.id());
+    }
+
+    public String encode() {
+        String raw = bookingDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a token produced by {@link #encode()}; blank tokens mean "first page"
+     */
+    public static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new BookingCursor(LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ValidationException("cursor", "Invalid page cursor");
+        }
+    }
+}
@@ -73,4 +73,38 @@ public class BookingDTO {
                 .paymentDeadline(booking.getPaymentDeadline())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static BookingDTO fromListRow(BookingListRow row) {
+        return BookingDTO.builder()
+                .id(row.id())
+                .activityId(row.activityId())
+                .activityName(row.activityName())
+                .userId(row.userId())
+                .userName(row.userId() != null
+                        ? row.userFirstName() + " " + row.userLastName()
+                        : null)
+                .guestName(row.guestName())
+                .guestPhone(row.guestPhone())
+                .guestEmail(row.guestEmail())
+                .isGuestBooking(row.userId() == null)
+                .employeeId(row.employeeId())
+                .employeeName(row.employeeId() != null
+                        ? row.employeeFirstName() + " " + row.employeeLastName()
+                        : null)
+                .bookingDate(row.bookingDate())
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .numberOfParticipants(row.numberOfParticipants())
+                .totalPrice(row.totalPrice())
+                .depositPaid(row.depositPaid())
+                .status(row.status().name())
+                .notes(row.notes())
+                .paymentStatus(row.paymentStatus().name())
+                .paidAmount(row.paidAmount())
+                .remainingAmount(row.remainingAmount())
+                .willPayRemainingCash(row.willPayRemainingCash())
+                .confirmedAt(row.confirmedAt())
+                .paymentDeadline(row.paymentDeadline())
+                .build();
+    }
+}
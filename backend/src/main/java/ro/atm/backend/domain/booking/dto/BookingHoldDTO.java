@@ -0,0 +1,34 @@
+package ro.atm.backend.domain.booking.dto;
+
+import lombok.*;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingHoldDTO {
+    private Long id;
+    private Long activityId;
+    private LocalDate bookingDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer numberOfParticipants;
+    private LocalDateTime expiresAt;
+
+    public static BookingHoldDTO fromEntity(BookingHold hold) {
+        return BookingHoldDTO.builder()
+                .id(hold.getId())
+                .activityId(hold.getActivity().getId())
+                .bookingDate(hold.getHoldDate())
+                .startTime(hold.getStartTime())
+                .endTime(hold.getEndTime())
+                .numberOfParticipants(hold.getNumberOfParticipants())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package ro.atm.backend.domain.booking.dto;
+
+import ro.atm.backend.domain.booking.entity.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Flat read model of a booking row for list endpoints.
+ * Filled by a JPQL constructor expression, so no Booking/User/Activity entity (and none of their eager
+ * associations) is loaded; turn it into a {@link BookingDTO} with {@link BookingDTO#fromListRow}.
+ */
+public record BookingListRow(
+        Long id,
+        Long activityId,
+        String activityName,
+        Long userId,
+        String userFirstName,
+        String userLastName,
+        String guestName,
+        String guestPhone,
+        String guestEmail,
+        Long employeeId,
+        String employeeFirstName,
+        String employeeLastName,
+        LocalDate bookingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer numberOfParticipants,
+        BigDecimal totalPrice,
+        BigDecimal depositPaid,
+        Booking.BookingStatus status,
+        String notes,
+        Booking.PaymentStatus paymentStatus,
+        BigDecimal paidAmount,
+        BigDecimal remainingAmount,
+        Boolean willPayRemainingCash,
+        LocalDateTime confirmedAt,
+        LocalDateTime paymentDeadline
+) {
+
+    /**
+     * Select clause matching the record components; the query must alias booking b, activity a,
+     * user u and employee e
+     */
+    public static final String SELECT = "SELECT new ro.atm.backend.domain.booking.dto.BookingListRow(" +
+            "b.id, a.id, a.name, u.id, u.firstName, u.lastName, b.guestName, b.guestPhone, b.guestEmail, " +
+            "e.id, e.firstName, e.lastName, b.bookingDate, b.startTime, b.endTime, b.numberOfParticipants, " +
+            "b.totalPrice, b.depositPaid, b.status, b.notes, b.paymentStatus, b.paidAmount, b.remainingAmount, " +
+            "b.willPayRemainingCash, b.confirmedAt, b.paymentDeadline) " +
+            "FROM Booking b JOIN b.activity a LEFT JOIN b.user u LEFT JOIN b.employee e ";
+}
@@ -0,0 +1,15 @@
+package ro.atm.backend.domain.booking.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingPageDTO {
+    private List<BookingDTO> items;
+    private String nextCursor; // null on the last page
+    private boolean hasMore;
+}
@@ -15,4 +15,5 @@ public class BookingRequest {
     private LocalTime startTime;
     private Integer numberOfParticipants;
     private String notes;
+    private Long holdId; // optional seat hold taken at checkout
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ro.atm.backend.domain.booking.dto;
+
+import lombok.*;
+import ro.atm.backend.domain.booking.entity.Booking;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters of the admin bookings page; null fields are not applied
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingSearchCriteria {
+    private Booking.BookingStatus status;
+    private Booking.PaymentStatus paymentStatus;
+    private Long employeeId;
+    private Long activityId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+}
@@ -11,7 +11,17 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Payment-deadline expiry sweep
+        @Index(name = "idx_bookings_expiry", columnList = "status, payment_status, payment_deadline"),
+        // Admin list keyset pagination on (booking_date, id), unfiltered and per filter
+        @Index(name = "idx_bookings_date_id", columnList = "booking_date, id"),
+        @Index(name = "idx_bookings_status_date_id", columnList = "status, booking_date, id"),
+        @Index(name = "idx_bookings_payment_status_date_id", columnList = "payment_status, booking_date, id"),
+        @Index(name = "idx_bookings_employee_date_id", columnList = "employee_id, booking_date, id"),
+        @Index(name = "idx_bookings_activity_date_id", columnList = "activity_id, booking_date, id"),
+        @Index(name = "idx_bookings_user", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,7 +66,7 @@ public class Booking {
     @JoinColumn(name = "employee_id")
     private User employee;
 
-    @Column(nullable = false)
+    @Column(name = "booking_date", nullable = false)
     private LocalDate bookingDate;
 
     @Column(nullable = false)
@@ -75,7 +85,7 @@ public class Booking {
     private BigDecimal depositPaid;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "status", nullable = false)
     private BookingStatus status = BookingStatus.PENDING;
 
     @Column(length = 1000)
@@ -83,7 +93,7 @@ public class Booking {
 
     // Payment fields
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "payment_status", nullable = false)
     private PaymentStatus paymentStatus = PaymentStatus.UNPAID;
 
     @Column(nullable = false)
@@ -98,7 +108,7 @@ public class Booking {
     @Column
     private LocalDateTime confirmedAt;
 
-    @Column
+    @Column(name = "payment_deadline")
     private LocalDateTime paymentDeadline;
 
     // Automatically calculate remaining amount before persisting
@@ -0,0 +1,73 @@
+package ro.atm.backend.domain.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.auth.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Short-lived reservation of participant capacity on an employee's slot, taken while the customer checks out.
+ * Counts against the employee's capacity until it is consumed by a booking, released or expired.
+ */
+@Entity
+@Table(name = "booking_holds", indexes = {
+        @Index(name = "idx_booking_holds_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_booking_holds_employee_date", columnList = "employee_id, hold_date"),
+        @Index(name = "idx_booking_holds_user_expires_at", columnList = "user_id, expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "activity_id", nullable = false)
+    private Activity activity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private User employee;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "hold_date", nullable = false)
+    private LocalDate holdDate;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Column(nullable = false)
+    private Integer numberOfParticipants;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
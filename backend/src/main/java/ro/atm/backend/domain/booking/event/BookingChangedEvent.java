@@ -0,0 +1,18 @@
+package ro.atm.backend.domain.booking.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Published whenever a booking is created, cancelled, re-assigned or changes status.
+ * Listeners use the booking date to invalidate derived availability data.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingChangedEvent {
+
+    private final Long bookingId;
+    private final LocalDate bookingDate;
+}
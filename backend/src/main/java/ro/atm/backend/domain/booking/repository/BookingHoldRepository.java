@@ -0,0 +1,50 @@
+package ro.atm.backend.domain.booking.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingHoldRepository extends JpaRepository<BookingHold, Long> {
+
+    // Served by idx_booking_holds_employee_date
+    @Query("SELECT h FROM BookingHold h " +
+            "JOIN FETCH h.activity a " +
+            "LEFT JOIN FETCH a.category " +
+            "WHERE h.employee.id = :employeeId AND h.holdDate = :date AND h.expiresAt > :now")
+    List<BookingHold> findActiveByEmployeeAndDate(@Param("employeeId") Long employeeId,
+                                                  @Param("date") LocalDate date,
+                                                  @Param("now") LocalDateTime now);
+
+    @Query("SELECT h FROM BookingHold h " +
+            "JOIN FETCH h.activity a " +
+            "LEFT JOIN FETCH a.category " +
+            "JOIN FETCH h.employee " +
+            "WHERE h.holdDate = :date AND h.expiresAt > :now")
+    List<BookingHold> findActiveByDate(@Param("date") LocalDate date, @Param("now") LocalDateTime now);
+
+    @Query("SELECT h FROM BookingHold h " +
+            "JOIN FETCH h.employee " +
+            "LEFT JOIN FETCH h.user " +
+            "WHERE h.id = :id")
+    Optional<BookingHold> findByIdWithDetails(@Param("id") Long id);
+
+    // Served by idx_booking_holds_user_expires_at
+    @Query("SELECT COUNT(h) FROM BookingHold h WHERE h.user.id = :userId AND h.expiresAt > :now")
+    long countActiveByUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // Range delete on idx_booking_holds_expires_at; never touches live holds
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BookingHold h WHERE h.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
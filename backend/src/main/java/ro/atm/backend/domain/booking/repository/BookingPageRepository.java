@@ -0,0 +1,18 @@
+package ro.atm.backend.domain.booking.repository;
+
+import ro.atm.backend.domain.booking.dto.BookingCursor;
+import ro.atm.backend.domain.booking.dto.BookingListRow;
+import ro.atm.backend.domain.booking.dto.BookingSearchCriteria;
+
+import java.util.List;
+
+/**
+ * Keyset pagination over the booking list read model
+ */
+public interface BookingPageRepository {
+
+    /**
+     * Up to limit rows matching the criteria, ordered by (bookingDate, id) descending, strictly after the cursor
+     */
+    List<BookingListRow> findListPage(BookingSearchCriteria criteria, BookingCursor after, int limit);
+}
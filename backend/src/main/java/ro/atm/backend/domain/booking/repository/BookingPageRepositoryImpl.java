@@ -0,0 +1,69 @@
+package ro.atm.backend.domain.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import ro.atm.backend.domain.booking.dto.BookingCursor;
+import ro.atm.backend.domain.booking.dto.BookingListRow;
+import ro.atm.backend.domain.booking.dto.BookingSearchCriteria;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the page query from the filters that are actually set, so every combination gets a plain
+ * predicate list the planner can match against the bookings indexes
+ */
+class BookingPageRepositoryImpl implements BookingPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BookingListRow> findListPage(BookingSearchCriteria criteria, BookingCursor after, int limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (criteria.getStatus() != null) {
+            predicates.add("b.status = :status");
+            parameters.put("status", criteria.getStatus());
+        }
+        if (criteria.getPaymentStatus() != null) {
+            predicates.add("b.paymentStatus = :paymentStatus");
+            parameters.put("paymentStatus", criteria.getPaymentStatus());
+        }
+        if (criteria.getEmployeeId() != null) {
+            predicates.add("b.employee.id = :employeeId");
+            parameters.put("employeeId", criteria.getEmployeeId());
+        }
+        if (criteria.getActivityId() != null) {
+            predicates.add("b.activity.id = :activityId");
+            parameters.put("activityId", criteria.getActivityId());
+        }
+        if (criteria.getFromDate() != null) {
+            predicates.add("b.bookingDate >= :fromDate");
+            parameters.put("fromDate", criteria.getFromDate());
+        }
+        if (criteria.getToDate() != null) {
+            predicates.add("b.bookingDate <= :toDate");
+            parameters.put("toDate", criteria.getToDate());
+        }
+        if (after != null) {
+            predicates.add("(b.bookingDate < :cursorDate OR (b.bookingDate = :cursorDate AND b.id < :cursorId))");
+            parameters.put("cursorDate", after.bookingDate());
+            parameters.put("cursorId", after.id());
+        }
+
+        StringBuilder jpql = new StringBuilder(BookingListRow.SELECT);
+        if (!predicates.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", predicates)).append(' ');
+        }
+        jpql.append("ORDER BY b.bookingDate DESC, b.id DESC");
+
+        TypedQuery<BookingListRow> query = entityManager.createQuery(jpql.toString(), BookingListRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,28 +1,61 @@
 package ro.atm.backend.domain.booking.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ro.atm.backend.domain.booking.dto.BookingListRow;
 import ro.atm.backend.domain.booking.entity.Booking;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingPageRepository {
 
     List<Booking> findByUserId(Long userId);
 
     List<Booking> findByActivityId(Long activityId);
 
+    // List read model: one statement, no entity hydration
+    @Query(BookingListRow.SELECT + "ORDER BY b.id")
+    List<BookingListRow> findAllListRows();
+
+    @Query(BookingListRow.SELECT + "WHERE u.username = :username ORDER BY b.id")
+    List<BookingListRow> findListRowsByUsername(@Param("username") String username);
+
+    /**
+     * Stream every booking row for export; must be consumed (and closed) inside a transaction
+     */
+    @Query(BookingListRow.SELECT + "ORDER BY b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<BookingListRow> streamListRows();
+
     @Query("SELECT b FROM Booking b WHERE b.bookingDate = :date AND b.status != 'CANCELLED'")
     List<Booking> findByDate(@Param("date") LocalDate date);
 
     @Query("SELECT b FROM Booking b WHERE b.employee.id = :employeeId AND b.bookingDate = :date AND b.status != 'CANCELLED'")
     List<Booking> findByEmployeeAndDate(@Param("employeeId") Long employeeId, @Param("date") LocalDate date);
 
+    // Loads every active booking of the day together with the associations needed for capacity checks
+    @Query("SELECT b FROM Booking b " +
+            "JOIN FETCH b.activity a " +
+            "LEFT JOIN FETCH a.category " +
+            "LEFT JOIN FETCH b.employee e " +
+            "LEFT JOIN FETCH e.roles " +
+            "LEFT JOIN FETCH b.user u " +
+            "LEFT JOIN FETCH u.roles " +
+            "WHERE b.bookingDate = :date AND b.status != 'CANCELLED'")
+    List<Booking> findActiveByDateWithDetails(@Param("date") LocalDate date);
+
     List<Booking> findByBookingDateBetweenAndStatusNot(
             LocalDate startDate,
             LocalDate endDate,
@@ -31,4 +64,37 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     @Query("SELECT b FROM Booking b WHERE b.activity.id = :activityId AND b.bookingDate = :date AND b.status != 'CANCELLED'")
     List<Booking> findByActivityAndDate(@Param("activityId") Long activityId, @Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    // Transaction-scoped PostgreSQL advisory lock on (employee, day); released automatically on commit/rollback
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(CAST(:employeeKey AS integer), CAST(:epochDay AS integer))",
+            nativeQuery = true)
+    Integer lockEmployeeDay(@Param("employeeKey") int employeeKey, @Param("epochDay") int epochDay);
+
+    // Expiry sweep candidates, served by idx_bookings_expiry; callers page through them in chunks
+    @Query("SELECT b.id AS id, b.bookingDate AS bookingDate FROM Booking b " +
+            "WHERE b.status = :status AND b.paymentStatus = :paymentStatus AND b.paymentDeadline < :now " +
+            "ORDER BY b.paymentDeadline")
+    List<ExpiryCandidate> findExpiryCandidates(@Param("status") Booking.BookingStatus status,
+                                               @Param("paymentStatus") Booking.PaymentStatus paymentStatus,
+                                               @Param("now") LocalDateTime now,
+                                               Pageable pageable);
+
+    // Re-checks the expiry predicate so a booking paid since it was selected is left alone, and returns only
+    // the rows it actually cancelled (PostgreSQL UPDATE ... RETURNING); enum parameters are passed by name
+    @Query(value = "UPDATE bookings SET status = :newStatus " +
+            "WHERE id IN (:ids) AND status = :status AND payment_status = :paymentStatus " +
+            "AND payment_deadline < :now " +
+            "RETURNING id AS id, booking_date AS \"bookingDate\"",
+            nativeQuery = true)
+    List<ExpiryCandidate> cancelExpired(@Param("ids") Collection<Long> ids,
+                                        @Param("status") String status,
+                                        @Param("paymentStatus") String paymentStatus,
+                                        @Param("now") LocalDateTime now,
+                                        @Param("newStatus") String newStatus);
+
+    interface ExpiryCandidate {
+        Long getId();
+
+        LocalDate getBookingDate();
+    }
+}
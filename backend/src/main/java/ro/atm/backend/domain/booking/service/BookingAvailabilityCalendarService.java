@@ -0,0 +1,258 @@
+package ro.atm.backend.domain.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.atm.backend.common.exception.ValidationException;
+import ro.atm.backend.common.util.IntervalIndex;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.event.BookingChangedEvent;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+import ro.atm.backend.domain.employee.entity.EmployeeWorkHour;
+import ro.atm.backend.domain.employee.event.WorkHourChangedEvent;
+import ro.atm.backend.domain.employee.repository.EmployeeWorkHourRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized per-day availability calendar for the public month view.
+ * Entries are keyed by (activity, date) and dropped per date whenever a booking or work hour of that date
+ * changes, so repeated month requests are served from memory. A day is available when a guide has a free
+ * slot, which does not depend on the number of participants, so all participant counts share one entry.
+ * The endpoint is public, so the key space is bounded: only months from the current one up to the booking
+ * horizon are served, and past dates are purged.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingAvailabilityCalendarService {
+
+    private final BookingRepository bookingRepository;
+    private final EmployeeWorkHourRepository employeeWorkHourRepository;
+
+    @Value("${booking.availability-calendar.max-age-minutes:15}")
+    private long maxAgeMinutes;
+
+    @Value("${booking.availability-calendar.horizon-months:12}")
+    private int horizonMonths;
+
+    private final Map<LocalDate, Map<Long, CalendarEntry>> calendar = new ConcurrentHashMap<>();
+
+    // Bumped per date on every invalidation so that a month computed concurrently with a change of one of
+    // its dates does not store that date; invalidateAll bumps the epoch instead
+    private final Map<LocalDate, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Get the dates of a month (from today onwards) that still have at least one free slot
+     */
+    public List<String> getAvailableDates(Activity activity, YearMonth yearMonth) {
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+        if (yearMonth.isBefore(currentMonth)) {
+            return List.of();
+        }
+        if (yearMonth.isAfter(currentMonth.plusMonths(horizonMonths))) {
+            throw new ValidationException("date", "Availability is only available up to " + horizonMonths + " months ahead");
+        }
+
+        Map<LocalDate, Boolean> days = lookup(activity.getId(), yearMonth, today);
+        if (days == null) {
+            long startEpoch = epoch.get();
+            Map<LocalDate, Long> startGenerations = generationsOf(yearMonth, today);
+            days = computeMonth(activity, yearMonth);
+            store(activity.getId(), days, startEpoch, startGenerations);
+        }
+
+        List<String> availableDates = new ArrayList<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            LocalDate currentDate = yearMonth.atDay(day);
+
+            // skip past days
+            if (currentDate.isBefore(today)) {
+                continue;
+            }
+
+            if (Boolean.TRUE.equals(days.get(currentDate))) {
+                availableDates.add(currentDate.toString());
+            }
+        }
+        return availableDates;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        invalidate(event.getBookingDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkHourChanged(WorkHourChangedEvent event) {
+        event.getWorkDates().forEach(this::invalidate);
+    }
+
+    /**
+     * Drop every cached calendar entry of a date
+     */
+    public void invalidate(LocalDate date) {
+        if (date == null) {
+            return;
+        }
+        generations.computeIfAbsent(date, d -> new AtomicLong()).incrementAndGet();
+        calendar.remove(date);
+        log.debug("Availability calendar invalidated for {}", date);
+    }
+
+    /**
+     * Drop the whole calendar
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        calendar.clear();
+    }
+
+    /**
+     * Drop the entries and generations of dates that have passed; they are never served again
+     */
+    @Scheduled(fixedDelayString = "${booking.availability-calendar.purge-interval-ms:3600000}")
+    public void purgePastDates() {
+        LocalDate today = LocalDate.now();
+        calendar.keySet().removeIf(date -> date.isBefore(today));
+        generations.keySet().removeIf(date -> date.isBefore(today));
+    }
+
+    private Map<LocalDate, Long> generationsOf(YearMonth yearMonth, LocalDate today) {
+        Map<LocalDate, Long> snapshot = new HashMap<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            LocalDate currentDate = yearMonth.atDay(day);
+            if (!currentDate.isBefore(today)) {
+                snapshot.put(currentDate, generationOf(currentDate));
+            }
+        }
+        return snapshot;
+    }
+
+    private long generationOf(LocalDate date) {
+        AtomicLong generation = generations.get(date);
+        return generation != null ? generation.get() : 0;
+    }
+
+    private Map<LocalDate, Boolean> lookup(Long activityId, YearMonth yearMonth, LocalDate today) {
+        long now = System.currentTimeMillis();
+        long maxAgeMillis = maxAgeMinutes * 60_000L;
+
+        Map<LocalDate, Boolean> days = new HashMap<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            LocalDate currentDate = yearMonth.atDay(day);
+            if (currentDate.isBefore(today)) {
+                continue;
+            }
+
+            Map<Long, CalendarEntry> entries = calendar.get(currentDate);
+            CalendarEntry entry = entries != null ? entries.get(activityId) : null;
+            if (entry == null || now - entry.computedAt() > maxAgeMillis) {
+                return null;
+            }
+            days.put(currentDate, entry.available());
+        }
+        return days;
+    }
+
+    private void store(Long activityId, Map<LocalDate, Boolean> days,
+                       long startEpoch, Map<LocalDate, Long> startGenerations) {
+        if (epoch.get() != startEpoch) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        startGenerations.forEach((date, generation) -> {
+            // A date that changed while the month was being computed is left for the next request to recompute
+            if (generationOf(date) == generation) {
+                Map<Long, CalendarEntry> entries = calendar.computeIfAbsent(date, d -> new ConcurrentHashMap<>());
+                entries.put(activityId, new CalendarEntry(days.get(date), now));
+                if (generationOf(date) != generation) {
+                    // Invalidated between the check and the put
+                    entries.remove(activityId);
+                }
+            }
+        });
+    }
+
+    private Map<LocalDate, Boolean> computeMonth(Activity activity, YearMonth yearMonth) {
+        LocalDate startOfMonth = yearMonth.atDay(1);
+        LocalDate endOfMonth = yearMonth.atEndOfMonth();
+
+        // 1. Fetch all Employees working this month
+        List<EmployeeWorkHour> allWorkHours = employeeWorkHourRepository.findEmployeeWorkHoursInDateRange(
+                startOfMonth, endOfMonth
+        );
+
+        // 2. Fetch all ACTIVE bookings for this month (ignore CANCELLED)
+        List<Booking> allBookings = bookingRepository.findByBookingDateBetweenAndStatusNot(
+                startOfMonth, endOfMonth, Booking.BookingStatus.CANCELLED
+        );
+
+        // 3. Group data by Date for efficient lookup
+        Map<LocalDate, List<EmployeeWorkHour>> workHoursByDate = allWorkHours.stream()
+                .collect(Collectors.groupingBy(EmployeeWorkHour::getWorkDate));
+
+        Map<LocalDate, List<Booking>> bookingsByDate = allBookings.stream()
+                .collect(Collectors.groupingBy(Booking::getBookingDate));
+
+        Map<LocalDate, Boolean> days = new HashMap<>();
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            LocalDate currentDate = yearMonth.atDay(day);
+
+            List<EmployeeWorkHour> workHours = workHoursByDate.get(currentDate);
+            days.put(currentDate, workHours != null && isDayAvailable(activity, workHours,
+                    bookingsByDate.getOrDefault(currentDate, Collections.emptyList())));
+        }
+        return days;
+    }
+
+    /**
+     * Checks if a specific day has at least one free slot for the activity.
+     * Candidate start times are derived from each employee's free gaps instead of stepping through the day.
+     */
+    private boolean isDayAvailable(Activity activity, List<EmployeeWorkHour> workHours, List<Booking> bookings) {
+        int durationMinutes = activity.getDurationMinutes();
+        int slotIntervalMinutes = activity.getEffectiveSlotIntervalMinutes();
+
+        Map<Long, IntervalIndex<Booking>> bookingsByEmployee = bookings.stream()
+                .collect(Collectors.groupingBy(b -> b.getEmployee().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), BookingIntervals::index)));
+
+        // Iterate over every employee working today
+        for (EmployeeWorkHour workHour : workHours) {
+            IntervalIndex<Booking> employeeBookings = bookingsByEmployee.getOrDefault(
+                    workHour.getEmployee().getId(), IntervalIndex.empty());
+
+            List<IntervalIndex.TimeWindow> gaps = employeeBookings.freeGaps(
+                    workHour.getStartTime(), workHour.getEndTime());
+
+            // One free slot is enough for the day to be available
+            if (BookingIntervals.hasStartTimeWithin(gaps, workHour.getStartTime(),
+                    slotIntervalMinutes, durationMinutes)) {
+                return true;
+            }
+        }
+
+        // If we checked all employees and found no gaps -> Day is full
+        return false;
+    }
+
+    private record CalendarEntry(boolean available, long computedAt) {
+    }
+}
@@ -3,20 +3,23 @@ package ro.atm.backend.domain.booking.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import ro.atm.backend.common.util.IntervalIndex;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityCategory;
 import ro.atm.backend.domain.activity.service.ActivityTimeSlotService;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+import ro.atm.backend.domain.booking.repository.BookingHoldRepository;
 import ro.atm.backend.domain.booking.repository.BookingRepository;
-import ro.atm.backend.domain.user.repository.RoleRepository;
+import ro.atm.backend.domain.employee.service.EmployeeRosterCache;
 import ro.atm.backend.domain.user.repository.UserRepository;
-import ro.atm.backend.common.constants.SecurityConstants;
-import ro.atm.backend.common.exception.ResourceNotFoundException;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,17 +32,18 @@ import java.util.stream.Collectors;
 public class BookingEmployeeAssignmentService {
 
     private final BookingRepository bookingRepository;
+    private final BookingHoldRepository bookingHoldRepository;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final EmployeeRosterCache employeeRosterCache;
+    private final BookingReservationLock reservationLock;
     private final ActivityTimeSlotService timeSlotService;
 
     /**
-     * Find an available employee for a booking
-     * Also validates that the booking time falls within the activity's time slots
+     * Find an available employee and lock their day so the capacity check stays valid until the booking is saved
+     * Must run inside the transaction that saves the booking
      */
-    public User findAvailableEmployee(LocalDate date, LocalTime startTime, LocalTime endTime,
-                                     Activity activity, int numberOfParticipants) {
-        // First, check if the booking time is valid for this activity
+    public User reserveAvailableEmployee(LocalDate date, LocalTime startTime, LocalTime endTime,
+                                         Activity activity, int numberOfParticipants) {
         DayOfWeek dayOfWeek = date.getDayOfWeek();
         if (!timeSlotService.isBookingTimeValid(activity.getId(), dayOfWeek, startTime, endTime)) {
             log.warn("Booking time {}-{} on {} is not within activity {}'s allowed time slots",
@@ -47,43 +51,76 @@ public class BookingEmployeeAssignmentService {
             return null;
         }
 
-        var employeeRole = roleRepository.findByName(SecurityConstants.Roles.EMPLOYEE)
-                .orElseThrow(() -> new ResourceNotFoundException("Role", SecurityConstants.Roles.EMPLOYEE));
+        reservationLock.lockDay(date);
 
-        List<User> employees = userRepository.findAll().stream()
-                .filter(user -> user.getRoles().contains(employeeRole) && user.isEnabled())
-                .collect(Collectors.toList());
+        // Roster is ordered by id, so advisory locks are always taken in ascending order
+        for (EmployeeRosterCache.RosterEntry employee : employeeRosterCache.getEnabledEmployees()) {
+            if (!canEmployeeHandleBooking(employee.id(), date, startTime, endTime, activity, numberOfParticipants, null)) {
+                continue;
+            }
 
-        for (User employee : employees) {
-            if (canEmployeeHandleBooking(employee, date, startTime, endTime, activity, numberOfParticipants, null)) {
-                return employee;
+            // Re-check under the lock: another instance may have booked the employee since the first check
+            reservationLock.lockEmployeeDay(employee.id(), date);
+            if (canEmployeeHandleBooking(employee.id(), date, startTime, endTime, activity, numberOfParticipants, null)) {
+                return userRepository.findById(employee.id()).orElse(null);
             }
         }
 
         return null;
     }
 
+    /**
+     * Lock an employee's day and check that they can handle a booking
+     * Must run inside the transaction that saves the change
+     */
+    public boolean reserveEmployeeForBooking(User employee, LocalDate date,
+                                             LocalTime startTime, LocalTime endTime,
+                                             Activity activity, int participants,
+                                             Long excludeBookingId) {
+        reservationLock.lockDay(date);
+        reservationLock.lockEmployeeDay(employee.getId(), date);
+        return canEmployeeHandleBooking(employee.getId(), date, startTime, endTime, activity, participants, excludeBookingId);
+    }
+
     /**
      * Check if an employee can handle a booking at a specific time
      * Supports multiple overlapping bookings if they share same category, location, and don't exceed capacity
+     * Active seat holds on the employee's day count like bookings
      */
-    public boolean canEmployeeHandleBooking(User employee, LocalDate date,
+    public boolean canEmployeeHandleBooking(Long employeeId, LocalDate date,
                                            LocalTime startTime, LocalTime endTime,
                                            Activity newActivity, int newParticipants,
                                            Long excludeBookingId) {
 
-        List<Booking> employeeBookings = bookingRepository.findByEmployeeAndDate(employee.getId(), date);
+        List<Booking> employeeBookings = bookingRepository.findByEmployeeAndDate(employeeId, date);
+        List<BookingHold> employeeHolds = bookingHoldRepository.findActiveByEmployeeAndDate(
+                employeeId, date, LocalDateTime.now());
+
+        return canEmployeeHandleBooking(employeeId, BookingIntervals.index(employeeBookings),
+                BookingIntervals.indexHolds(employeeHolds), startTime, endTime,
+                newActivity, newParticipants, excludeBookingId);
+    }
+
+    /**
+     * Check if an employee can handle a booking against interval indexes of their active bookings and holds for the day
+     * Used by callers that bulk-load a day's occupancy instead of querying per employee
+     */
+    public boolean canEmployeeHandleBooking(Long employeeId, IntervalIndex<Booking> employeeBookings,
+                                           IntervalIndex<BookingHold> employeeHolds,
+                                           LocalTime startTime, LocalTime endTime,
+                                           Activity newActivity, int newParticipants,
+                                           Long excludeBookingId) {
 
         // Get overlapping bookings (excluding cancelled ones and the excluded booking)
-        List<Booking> overlappingBookings = employeeBookings.stream()
+        List<Booking> overlappingBookings = employeeBookings.findOverlapping(startTime, endTime).stream()
                 .filter(b -> excludeBookingId == null || !b.getId().equals(excludeBookingId))
                 .filter(b -> b.getStatus() != Booking.BookingStatus.CANCELLED)
-                .filter(b -> timesOverlap(startTime, endTime, b.getStartTime(), b.getEndTime()))
                 .collect(Collectors.toList());
+        List<BookingHold> overlappingHolds = employeeHolds.findOverlapping(startTime, endTime);
 
-        // If no overlapping bookings, employee is completely free
-        if (overlappingBookings.isEmpty()) {
-            log.debug("Employee {} is free at {}-{}", employee.getUsername(), startTime, endTime);
+        // If nothing overlaps, employee is completely free
+        if (overlappingBookings.isEmpty() && overlappingHolds.isEmpty()) {
+            log.debug("Employee {} is free at {}-{}", employeeId, startTime, endTime);
             return true;
         }
 
@@ -94,54 +131,54 @@ public class BookingEmployeeAssignmentService {
             return false;
         }
 
+        List<Activity> overlappingActivities = new ArrayList<>();
+        overlappingBookings.forEach(b -> overlappingActivities.add(b.getActivity()));
+        overlappingHolds.forEach(h -> overlappingActivities.add(h.getActivity()));
+
         // All overlapping bookings must have same category
-        boolean allSameCategory = overlappingBookings.stream()
-                .allMatch(b -> b.getActivity().getCategory() != null &&
-                        b.getActivity().getCategory().getId().equals(newCategory.getId()));
+        boolean allSameCategory = overlappingActivities.stream()
+                .allMatch(a -> a.getCategory() != null &&
+                        a.getCategory().getId().equals(newCategory.getId()));
 
         if (!allSameCategory) {
-            log.debug("Employee {} has bookings in different categories", employee.getUsername());
+            log.debug("Employee {} has bookings in different categories", employeeId);
             return false;
         }
 
         // All overlapping bookings must have same location
-        boolean allSameLocation = overlappingBookings.stream()
-                .allMatch(b -> newActivity.hasSameLocationAs(b.getActivity()));
+        boolean allSameLocation = overlappingActivities.stream()
+                .allMatch(newActivity::hasSameLocationAs);
 
         if (!allSameLocation) {
-            log.debug("Employee {} has bookings at different locations", employee.getUsername());
+            log.debug("Employee {} has bookings at different locations", employeeId);
             return false;
         }
 
-        // Calculate total participants
+        // Calculate total participants, held seats included
         int currentParticipants = overlappingBookings.stream()
                 .mapToInt(Booking::getNumberOfParticipants)
+                .sum()
+                + overlappingHolds.stream()
+                .mapToInt(BookingHold::getNumberOfParticipants)
                 .sum();
 
         int totalParticipants = currentParticipants + newParticipants;
         Integer maxParticipants = newCategory.getMaxParticipantsPerGuide();
 
         log.debug("Employee {}: category={}, location={}, current={}, new={}, total={}, max={}",
-                employee.getUsername(), newCategory.getName(), newActivity.getLocationIdentifier(),
+                employeeId, newCategory.getName(), newActivity.getLocationIdentifier(),
                 currentParticipants, newParticipants, totalParticipants, maxParticipants);
 
         if (totalParticipants > maxParticipants) {
             log.debug("Employee {} would exceed capacity: {} > {}",
-                    employee.getUsername(), totalParticipants, maxParticipants);
+                    employeeId, totalParticipants, maxParticipants);
             return false;
         }
 
         log.info("Employee {} can handle multiple activities: {} participants across {} bookings at {} ({})",
-                employee.getUsername(), totalParticipants, overlappingBookings.size() + 1,
+                employeeId, totalParticipants, overlappingActivities.size() + 1,
                 newActivity.getLocationIdentifier(), newCategory.getName());
 
         return true;
     }
-
-    /**
-     * Check if two time ranges overlap
-     */
-    private boolean timesOverlap(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
-    }
 }
@@ -0,0 +1,127 @@
+package ro.atm.backend.domain.booking.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.atm.backend.common.constants.BookingConstants;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.event.BookingChangedEvent;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cancels confirmed bookings whose payment deadline passed without any payment.
+ * Candidates are read in chunks through idx_bookings_expiry and cancelled with one bulk update per chunk,
+ * each chunk in its own short transaction, so the sweep never loads the bookings table into memory.
+ */
+@Service
+@Slf4j
+public class BookingExpiryService {
+
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobExecutor jobExecutor;
+    private final Counter cancelledCounter;
+    private final Timer sweepTimer;
+
+    @Value("${booking.expiry.chunk-size:" + BookingConstants.EXPIRED_BOOKING_SWEEP_CHUNK_SIZE + "}")
+    private int chunkSize;
+
+    public BookingExpiryService(BookingRepository bookingRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                ClusterJobExecutor jobExecutor,
+                                MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobExecutor = jobExecutor;
+        this.cancelledCounter = Counter.builder("bookings.expiry.cancelled")
+                .description("Bookings cancelled because their payment deadline passed")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("bookings.expiry.sweep")
+                .description("Duration of the expired booking sweep")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Automatically cancel expired bookings (runs every minute, on one instance of the cluster)
+     */
+    @Scheduled(fixedDelayString = "${booking.expiry.sweep-interval-ms:" + BookingConstants.EXPIRED_BOOKING_CHECK_INTERVAL_MS + "}")
+    public void cancelExpiredBookings() {
+        jobExecutor.runExclusively("booking-expiry-sweep", Duration.ofSeconds(30), this::timedSweep);
+    }
+
+    private int timedSweep() {
+        Timer.Sample sample = Timer.start();
+        int cancelled;
+        try {
+            cancelled = sweep(LocalDateTime.now());
+        } finally {
+            sample.stop(sweepTimer);
+        }
+
+        if (cancelled > 0) {
+            log.info("Auto-cancelled {} expired bookings", cancelled);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancel every booking that expired before the given time, one chunk per transaction
+     */
+    public int sweep(LocalDateTime now) {
+        int total = 0;
+        int size = Math.max(1, chunkSize);
+
+        while (true) {
+            ChunkResult chunk = transactionTemplate.execute(status -> cancelChunk(now, size));
+            if (chunk == null) {
+                break;
+            }
+            total += chunk.cancelled();
+            cancelledCounter.increment(chunk.cancelled());
+
+            // A short chunk is the last one; an empty update means the rest changed under us
+            if (chunk.candidates() < size || chunk.cancelled() == 0) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private ChunkResult cancelChunk(LocalDateTime now, int size) {
+        List<BookingRepository.ExpiryCandidate> candidates = bookingRepository.findExpiryCandidates(
+                Booking.BookingStatus.CONFIRMED, Booking.PaymentStatus.UNPAID, now, PageRequest.of(0, size));
+
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+
+        List<Long> ids = candidates.stream().map(BookingRepository.ExpiryCandidate::getId).toList();
+        List<BookingRepository.ExpiryCandidate> cancelled = bookingRepository.cancelExpired(ids,
+                Booking.BookingStatus.CONFIRMED.name(), Booking.PaymentStatus.UNPAID.name(), now,
+                Booking.BookingStatus.CANCELLED.name());
+
+        // Only for the rows actually cancelled, so candidates paid meanwhile keep their cached views; delivered after commit
+        cancelled.forEach(c -> eventPublisher.publishEvent(new BookingChangedEvent(c.getId(), c.getBookingDate())));
+
+        return new ChunkResult(candidates.size(), cancelled.size());
+    }
+
+    private record ChunkResult(int candidates, int cancelled) {
+    }
+}
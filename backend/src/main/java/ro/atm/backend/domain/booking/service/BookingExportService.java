@@ -0,0 +1,62 @@
+package ro.atm.backend.domain.booking.service;
+
+import org.springframework.stereotype.Service;
+import ro.atm.backend.common.export.ExportColumn;
+import ro.atm.backend.common.export.ExportFormat;
+import ro.atm.backend.common.export.StreamingExporter;
+import ro.atm.backend.domain.booking.dto.BookingListRow;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Streams every booking as CSV or NDJSON straight from a database cursor
+ */
+@Service
+public class BookingExportService {
+
+    private static final List<ExportColumn<BookingListRow>> COLUMNS = List.of(
+            ExportColumn.of("id", BookingListRow::id),
+            ExportColumn.of("activityId", BookingListRow::activityId),
+            ExportColumn.of("activityName", BookingListRow::activityName),
+            ExportColumn.of("userId", BookingListRow::userId),
+            ExportColumn.of("userFirstName", BookingListRow::userFirstName),
+            ExportColumn.of("userLastName", BookingListRow::userLastName),
+            ExportColumn.of("guestName", BookingListRow::guestName),
+            ExportColumn.of("guestPhone", BookingListRow::guestPhone),
+            ExportColumn.of("guestEmail", BookingListRow::guestEmail),
+            ExportColumn.of("employeeId", BookingListRow::employeeId),
+            ExportColumn.of("employeeFirstName", BookingListRow::employeeFirstName),
+            ExportColumn.of("employeeLastName", BookingListRow::employeeLastName),
+            ExportColumn.of("bookingDate", BookingListRow::bookingDate),
+            ExportColumn.of("startTime", BookingListRow::startTime),
+            ExportColumn.of("endTime", BookingListRow::endTime),
+            ExportColumn.of("numberOfParticipants", BookingListRow::numberOfParticipants),
+            ExportColumn.of("totalPrice", BookingListRow::totalPrice),
+            ExportColumn.of("depositPaid", BookingListRow::depositPaid),
+            ExportColumn.of("status", BookingListRow::status),
+            ExportColumn.of("notes", BookingListRow::notes),
+            ExportColumn.of("paymentStatus", BookingListRow::paymentStatus),
+            ExportColumn.of("paidAmount", BookingListRow::paidAmount),
+            ExportColumn.of("remainingAmount", BookingListRow::remainingAmount),
+            ExportColumn.of("willPayRemainingCash", BookingListRow::willPayRemainingCash),
+            ExportColumn.of("confirmedAt", BookingListRow::confirmedAt),
+            ExportColumn.of("paymentDeadline", BookingListRow::paymentDeadline)
+    );
+
+    private final BookingRepository bookingRepository;
+    private final StreamingExporter exporter;
+
+    public BookingExportService(BookingRepository bookingRepository, StreamingExporter exporter) {
+        this.bookingRepository = bookingRepository;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Write all bookings to the output stream; the stream itself is not closed
+     */
+    public void export(ExportFormat format, boolean gzip, OutputStream out) {
+        exporter.export("bookings", bookingRepository::streamListRows, COLUMNS, format, gzip, out);
+    }
+}
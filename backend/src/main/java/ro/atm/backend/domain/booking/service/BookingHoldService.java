@@ -0,0 +1,168 @@
+package ro.atm.backend.domain.booking.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ro.atm.backend.common.exception.ResourceNotFoundException;
+import ro.atm.backend.common.exception.ValidationException;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.repository.ActivityRepository;
+import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.booking.dto.BookingHoldDTO;
+import ro.atm.backend.domain.booking.dto.BookingHoldRequest;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+import ro.atm.backend.domain.booking.repository.BookingHoldRepository;
+import ro.atm.backend.domain.user.repository.UserRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+/**
+ * Short-lived seat holds taken while a customer goes through checkout.
+ * A hold reserves participant capacity on one employee's slot for a few minutes; capacity checks count
+ * only holds that have not expired yet, so the periodic purge is cleanup and never affects correctness.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingHoldService {
+
+    private final BookingHoldRepository bookingHoldRepository;
+    private final ActivityRepository activityRepository;
+    private final UserRepository userRepository;
+    private final BookingEmployeeAssignmentService employeeAssignmentService;
+    private final BookingValidationService validationService;
+    private final ClusterJobExecutor jobExecutor;
+
+    @Value("${booking.hold.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${booking.hold.max-per-user:3}")
+    private int maxHoldsPerUser;
+
+    /**
+     * Hold seats on the first employee able to take the slot
+     * A user may keep at most max-per-user live holds, so one account cannot block a whole day
+     */
+    @Transactional
+    public BookingHoldDTO createHold(BookingHoldRequest request, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", username));
+
+        if (bookingHoldRepository.countActiveByUser(user.getId(), LocalDateTime.now()) >= maxHoldsPerUser) {
+            throw new ValidationException("holds",
+                    "You already hold " + maxHoldsPerUser + " slots. Complete or release one before holding another");
+        }
+
+        Activity activity = activityRepository.findById(request.getActivityId())
+                .orElseThrow(() -> new ResourceNotFoundException("Activity", request.getActivityId()));
+
+        validationService.validateParticipantCount(activity, request.getNumberOfParticipants());
+
+        LocalTime endTime = request.getStartTime().plusMinutes(activity.getDurationMinutes());
+
+        User employee = employeeAssignmentService.reserveAvailableEmployee(
+                request.getBookingDate(),
+                request.getStartTime(),
+                endTime,
+                activity,
+                request.getNumberOfParticipants()
+        );
+
+        if (employee == null) {
+            throw new ValidationException("No employee available for this time slot");
+        }
+
+        BookingHold hold = BookingHold.builder()
+                .activity(activity)
+                .employee(employee)
+                .user(user)
+                .holdDate(request.getBookingDate())
+                .startTime(request.getStartTime())
+                .endTime(endTime)
+                .numberOfParticipants(request.getNumberOfParticipants())
+                .expiresAt(LocalDateTime.now().plusMinutes(ttlMinutes))
+                .build();
+
+        BookingHold saved = bookingHoldRepository.save(hold);
+        log.info("Seat hold created: id={}, employee={}, activity={}, participants={}, expiresAt={}",
+                saved.getId(), employee.getUsername(), activity.getName(),
+                saved.getNumberOfParticipants(), saved.getExpiresAt());
+
+        return BookingHoldDTO.fromEntity(saved);
+    }
+
+    /**
+     * Release a hold of the current user before it expires
+     */
+    @Transactional
+    public void releaseHold(Long holdId, String username) {
+        BookingHold hold = bookingHoldRepository.findByIdWithDetails(holdId)
+                .filter(h -> isHeldBy(h, username))
+                .orElseThrow(() -> new ResourceNotFoundException("BookingHold", holdId));
+
+        bookingHoldRepository.delete(hold);
+        log.info("Seat hold {} released by {}", holdId, username);
+    }
+
+    /**
+     * Turn a live hold of the user into the employee of the booking being created.
+     * Returns empty when the hold is missing, expired or does not match the booking, so the caller can fall
+     * back to a regular assignment. Must run inside the transaction that saves the booking.
+     */
+    public Optional<User> consumeHold(Long holdId, String username, Activity activity, LocalDate date,
+                                      LocalTime startTime, LocalTime endTime, int participants) {
+        Optional<BookingHold> found = bookingHoldRepository.findByIdWithDetails(holdId)
+                .filter(h -> isHeldBy(h, username))
+                .filter(h -> !h.isExpired(LocalDateTime.now()))
+                .filter(h -> h.getActivity().getId().equals(activity.getId())
+                        && h.getHoldDate().equals(date)
+                        && h.getStartTime().equals(startTime)
+                        && h.getNumberOfParticipants() >= participants);
+
+        if (found.isEmpty()) {
+            log.info("Seat hold {} is not usable for this booking, assigning an employee normally", holdId);
+            return Optional.empty();
+        }
+
+        BookingHold hold = found.get();
+        User employee = hold.getEmployee();
+
+        // The hold's own seats must not count against the booking that replaces it
+        bookingHoldRepository.delete(hold);
+        bookingHoldRepository.flush();
+
+        if (!employeeAssignmentService.reserveEmployeeForBooking(employee, date, startTime, endTime,
+                activity, participants, null)) {
+            throw new ValidationException("Held employee can no longer handle this booking");
+        }
+
+        log.info("Seat hold {} consumed for employee {}", holdId, employee.getUsername());
+        return Optional.of(employee);
+    }
+
+    /**
+     * Delete expired holds with a range delete on the expiry index (on one instance of the cluster)
+     */
+    @Scheduled(fixedDelayString = "${booking.hold.purge-interval-ms:60000}")
+    public void purgeExpiredHolds() {
+        jobExecutor.runExclusively("booking-hold-purge", Duration.ofSeconds(30), () -> {
+            int removed = bookingHoldRepository.deleteExpired(LocalDateTime.now());
+            if (removed > 0) {
+                log.info("Purged {} expired seat holds", removed);
+            }
+            return removed;
+        });
+    }
+
+    private boolean isHeldBy(BookingHold hold, String username) {
+        return hold.getUser() != null && hold.getUser().getUsername().equals(username);
+    }
+}
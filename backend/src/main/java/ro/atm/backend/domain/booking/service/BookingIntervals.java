@@ -0,0 +1,76 @@
+package ro.atm.backend.domain.booking.service;
+
+import ro.atm.backend.common.util.IntervalIndex;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Helpers for indexing bookings by their time interval and deriving start times from free gaps
+ */
+public final class BookingIntervals {
+    private BookingIntervals() {} // Prevent instantiation
+
+    /**
+     * Index bookings by time interval
+     */
+    public static IntervalIndex<Booking> index(Collection<Booking> bookings) {
+        return IntervalIndex.of(bookings, Booking::getStartTime, Booking::getEndTime);
+    }
+
+    /**
+     * Index seat holds by time interval
+     */
+    public static IntervalIndex<BookingHold> indexHolds(Collection<BookingHold> holds) {
+        return IntervalIndex.of(holds, BookingHold::getStartTime, BookingHold::getEndTime);
+    }
+
+    /**
+     * Start times on the grid (origin + k * step) whose [start, start + duration) fits inside one of the gaps
+     */
+    public static List<LocalTime> startTimesWithin(List<IntervalIndex.TimeWindow> gaps, LocalTime gridOrigin,
+                                                   int stepMinutes, int durationMinutes) {
+        List<LocalTime> startTimes = new ArrayList<>();
+        for (IntervalIndex.TimeWindow gap : gaps) {
+            int gapEnd = minuteOfDay(gap.end());
+            for (int start = firstGridMinute(gap.start(), gridOrigin, stepMinutes);
+                 start + durationMinutes <= gapEnd;
+                 start += stepMinutes) {
+                startTimes.add(LocalTime.ofSecondOfDay(start * 60L));
+            }
+        }
+        return startTimes;
+    }
+
+    /**
+     * Check if at least one grid start time fits inside one of the gaps
+     */
+    public static boolean hasStartTimeWithin(List<IntervalIndex.TimeWindow> gaps, LocalTime gridOrigin,
+                                             int stepMinutes, int durationMinutes) {
+        for (IntervalIndex.TimeWindow gap : gaps) {
+            if (firstGridMinute(gap.start(), gridOrigin, stepMinutes) + durationMinutes <= minuteOfDay(gap.end())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // First minute at or after the given time that lies on the grid
+    private static int firstGridMinute(LocalTime time, LocalTime gridOrigin, int stepMinutes) {
+        int origin = minuteOfDay(gridOrigin);
+        int minute = (time.toSecondOfDay() + 59) / 60;
+        if (minute <= origin) {
+            return origin;
+        }
+        int steps = (minute - origin + stepMinutes - 1) / stepMinutes;
+        return origin + steps * stepMinutes;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+}
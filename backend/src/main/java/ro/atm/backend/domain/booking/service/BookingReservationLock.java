@@ -0,0 +1,74 @@
+package ro.atm.backend.domain.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes capacity check + save of bookings so concurrent requests cannot overbook a guide.
+ * <p>
+ * Two layers, both held until the surrounding transaction completes:
+ * <ul>
+ *     <li>a striped in-process lock per booking date, so requests of the same instance queue in memory
+ *     instead of piling up on database connections; only one stripe is held per transaction, which
+ *     keeps the in-process layer deadlock free</li>
+ *     <li>a PostgreSQL transaction-scoped advisory lock per (employee, date), which makes the check
+ *     correct across backend instances; callers acquire them in ascending employee id order</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class BookingReservationLock {
+
+    private final BookingRepository bookingRepository;
+    private final ReentrantLock[] stripes;
+
+    public BookingReservationLock(BookingRepository bookingRepository,
+                                  @Value("${booking.reservation.lock-stripes:64}") int stripeCount) {
+        this.bookingRepository = bookingRepository;
+        this.stripes = new ReentrantLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock the in-process stripe of a booking date until the current transaction completes
+     */
+    public void lockDay(LocalDate date) {
+        requireTransaction();
+        ReentrantLock lock = stripeFor(date);
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Take the cross-instance advisory lock of an employee's day until the current transaction completes
+     */
+    public void lockEmployeeDay(Long employeeId, LocalDate date) {
+        requireTransaction();
+        bookingRepository.lockEmployeeDay(Long.hashCode(employeeId), Math.toIntExact(date.toEpochDay()));
+        log.debug("Acquired reservation lock for employee {} on {}", employeeId, date);
+    }
+
+    private ReentrantLock stripeFor(LocalDate date) {
+        return stripes[Math.floorMod(date.hashCode(), stripes.length)];
+    }
+
+    private void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking reservation locks require an active transaction");
+        }
+    }
+}
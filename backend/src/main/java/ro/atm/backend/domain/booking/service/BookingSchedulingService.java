@@ -3,27 +3,23 @@ package ro.atm.backend.domain.booking.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import ro.atm.backend.common.util.IntervalIndex;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.entity.ActivityTimeSlot;
 import ro.atm.backend.domain.activity.repository.ActivityTimeSlotRepository;
-import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.booking.dto.TimeSlotDTO;
-import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.repository.BookingHoldRepository;
 import ro.atm.backend.domain.booking.repository.BookingRepository;
 import ro.atm.backend.domain.employee.entity.EmployeeWorkHour;
 import ro.atm.backend.domain.employee.repository.EmployeeWorkHourRepository;
-import ro.atm.backend.domain.user.repository.RoleRepository;
-import ro.atm.backend.domain.user.repository.UserRepository;
-import ro.atm.backend.common.constants.SecurityConstants;
-import ro.atm.backend.common.exception.ResourceNotFoundException;
+import ro.atm.backend.domain.employee.service.EmployeeRosterCache;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Service responsible for booking scheduling and time slot management
@@ -34,31 +30,26 @@ import java.util.stream.Collectors;
 public class BookingSchedulingService {
 
     private final BookingRepository bookingRepository;
-    private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final BookingHoldRepository bookingHoldRepository;
+    private final EmployeeRosterCache employeeRosterCache;
     private final BookingEmployeeAssignmentService employeeAssignmentService;
     private final EmployeeWorkHourRepository employeeWorkHourRepository;
     private final ActivityTimeSlotRepository activityTimeSlotRepository;
 
     /**
      * Get available time slots for an activity on a specific date
+     * The day's bookings and work hours are loaded once and every slot is checked in memory
      */
     public Set<TimeSlotDTO> getAvailableTimeSlots(Long activityId, LocalDate date,
                                                     Integer numberOfParticipants, Activity activity) {
-        List<EmployeeWorkHour> workHours = employeeWorkHourRepository.findByWorkDate(date);
+        DailyCapacityIndex capacityIndex = loadCapacityIndex(date);
 
-        if (workHours == null) {
+        if (!capacityIndex.hasWorkHours()) {
             return Set.of();
         }
 
-        List<Booking> bookings = bookingRepository.findByActivityAndDate(activityId, date);
-
         // Get all enabled employees with ROLE_EMPLOYEE
-        var employeeRole = roleRepository.findByName(SecurityConstants.Roles.EMPLOYEE)
-                .orElseThrow(() -> new ResourceNotFoundException("Role", SecurityConstants.Roles.EMPLOYEE));
-        List<User> employees = userRepository.findAll().stream()
-                .filter(user -> user.getRoles().contains(employeeRole) && user.isEnabled())
-                .collect(Collectors.toList());
+        List<EmployeeRosterCache.RosterEntry> employees = employeeRosterCache.getEnabledEmployees();
 
         if (employees.isEmpty()) {
             return Set.of();
@@ -80,56 +71,84 @@ public class BookingSchedulingService {
                 LocalTime startTime = activitySlot.getStartTime();
                 LocalTime endTime = startTime.plusMinutes(durationMinutes);
 
-                if (!endTime.isAfter(activitySlot.getEndTime())) {
-                    boolean fallsWithinWorkHours = workHours.stream()
-                            .anyMatch(wh -> !startTime.isBefore(wh.getStartTime()) &&
-                                          !endTime.isAfter(wh.getEndTime()));
-
-                    if (fallsWithinWorkHours) {
-                        boolean isAvailable = isTimeSlotAvailableForParticipants(
-                                startTime, endTime, date, employees, activity, participantCount);
-
-                        slots.add(TimeSlotDTO.builder()
-                                .startTime(startTime)
-                                .endTime(endTime)
-                                .available(isAvailable)
-                                .build());
-                    }
+                if (!endTime.isAfter(activitySlot.getEndTime())
+                        && capacityIndex.fallsWithinWorkHours(startTime, endTime)) {
+                    boolean isAvailable = isTimeSlotAvailableForParticipants(
+                            startTime, endTime, capacityIndex, employees, activity, participantCount);
+
+                    slots.add(TimeSlotDTO.builder()
+                            .startTime(startTime)
+                            .endTime(endTime)
+                            .available(isAvailable)
+                            .build());
                 }
             }
         } else {
-            for (EmployeeWorkHour workHour : workHours) {
-                LocalTime currentTime = workHour.getStartTime();
-
-                while (currentTime.plusMinutes(durationMinutes).isBefore(workHour.getEndTime()) ||
-                        currentTime.plusMinutes(durationMinutes).equals(workHour.getEndTime())) {
+            int slotIntervalMinutes = activity.getEffectiveSlotIntervalMinutes();
+
+            for (EmployeeWorkHour workHour : capacityIndex.getWorkHours()) {
+                IntervalIndex.TimeWindow workWindow =
+                        new IntervalIndex.TimeWindow(workHour.getStartTime(), workHour.getEndTime());
+
+                // Start times some employee can take with no booking or hold at all, derived from their free gaps
+                Set<LocalTime> freeStartTimes = new HashSet<>();
+                for (EmployeeRosterCache.RosterEntry employee : employees) {
+                    List<IntervalIndex.TimeWindow> gaps = capacityIndex.freeGaps(
+                            employee.id(), workWindow.start(), workWindow.end());
+                    freeStartTimes.addAll(BookingIntervals.startTimesWithin(
+                            gaps, workWindow.start(), slotIntervalMinutes, durationMinutes));
+                }
 
-                    LocalTime endTime = currentTime.plusMinutes(durationMinutes);
+                for (LocalTime startTime : BookingIntervals.startTimesWithin(
+                        List.of(workWindow), workWindow.start(), slotIntervalMinutes, durationMinutes)) {
+                    LocalTime endTime = startTime.plusMinutes(durationMinutes);
 
-                    boolean isAvailable = isTimeSlotAvailableForParticipants(
-                            currentTime, endTime, date, employees, activity, participantCount);
+                    // Only start times that overlap existing bookings or holds need the shared-capacity check
+                    boolean isAvailable = freeStartTimes.contains(startTime)
+                            || isTimeSlotAvailableForParticipants(
+                                    startTime, endTime, capacityIndex, employees, activity, participantCount);
 
                     slots.add(TimeSlotDTO.builder()
-                            .startTime(currentTime)
+                            .startTime(startTime)
                             .endTime(endTime)
                             .available(isAvailable)
                             .build());
-
-                    currentTime = currentTime.plusMinutes(30);
                 }
             }
         }
         return slots;
     }
 
+    /**
+     * Load the occupancy of a day with one query each for bookings, seat holds and work hours
+     */
+    public DailyCapacityIndex loadCapacityIndex(LocalDate date) {
+        return DailyCapacityIndex.of(date,
+                employeeWorkHourRepository.findByWorkDate(date),
+                bookingRepository.findActiveByDateWithDetails(date),
+                bookingHoldRepository.findActiveByDate(date, LocalDateTime.now()));
+    }
+
     /**
      * Check if a time slot is available for a specific number of participants
      */
     public boolean isTimeSlotAvailableForParticipants(LocalTime startTime, LocalTime endTime,
-                                                      LocalDate date, List<User> employees,
+                                                      LocalDate date, List<EmployeeRosterCache.RosterEntry> employees,
+                                                      Activity activity, int numberOfParticipants) {
+        return isTimeSlotAvailableForParticipants(startTime, endTime, loadCapacityIndex(date),
+                employees, activity, numberOfParticipants);
+    }
+
+    /**
+     * Check if a time slot is available for a specific number of participants using a preloaded day index
+     */
+    public boolean isTimeSlotAvailableForParticipants(LocalTime startTime, LocalTime endTime,
+                                                      DailyCapacityIndex capacityIndex, List<EmployeeRosterCache.RosterEntry> employees,
                                                       Activity activity, int numberOfParticipants) {
-        for (User employee : employees) {
-            if (employeeAssignmentService.canEmployeeHandleBooking(employee, date, startTime, endTime,
+        for (EmployeeRosterCache.RosterEntry employee : employees) {
+            if (employeeAssignmentService.canEmployeeHandleBooking(employee.id(),
+                    capacityIndex.getBookingsForEmployee(employee.id()),
+                    capacityIndex.getHoldsForEmployee(employee.id()), startTime, endTime,
                     activity, numberOfParticipants, null)) {
                 return true;
             }
@@ -141,20 +160,15 @@ public class BookingSchedulingService {
      * Check if a time slot is available (using activity's minimum participants)
      */
     public boolean isTimeSlotAvailable(LocalTime startTime, LocalTime endTime, LocalDate date,
-                                      List<User> employees, Activity activity) {
-        for (User employee : employees) {
-            if (employeeAssignmentService.canEmployeeHandleBooking(employee, date, startTime, endTime,
-                    activity, activity.getMinParticipants(), null)) {
-                return true;
-            }
-        }
-        return false;
+                                      List<EmployeeRosterCache.RosterEntry> employees, Activity activity) {
+        return isTimeSlotAvailableForParticipants(startTime, endTime, date, employees,
+                activity, activity.getMinParticipants());
     }
 
     /**
      * Check if two time ranges overlap
      */
     public boolean timesOverlap(LocalTime start1, LocalTime end1, LocalTime start2, LocalTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
+        return IntervalIndex.overlaps(start1, end1, start2, end2);
     }
 }
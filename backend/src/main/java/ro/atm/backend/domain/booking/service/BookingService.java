@@ -3,20 +3,23 @@ package ro.atm.backend.domain.booking.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.activity.repository.ActivityRepository;
 import ro.atm.backend.domain.auth.entity.Role;
 import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.booking.dto.BookingCursor;
 import ro.atm.backend.domain.booking.dto.BookingDTO;
+import ro.atm.backend.domain.booking.dto.BookingListRow;
+import ro.atm.backend.domain.booking.dto.BookingPageDTO;
+import ro.atm.backend.domain.booking.dto.BookingSearchCriteria;
 import ro.atm.backend.domain.booking.dto.BookingRequest;
 import ro.atm.backend.domain.booking.dto.GuestBookingRequest;
 import ro.atm.backend.domain.booking.dto.TimeSlotDTO;
 import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.event.BookingChangedEvent;
 import ro.atm.backend.domain.booking.repository.BookingRepository;
-import ro.atm.backend.domain.employee.entity.EmployeeWorkHour;
-import ro.atm.backend.domain.employee.repository.EmployeeWorkHourRepository;
 import ro.atm.backend.domain.user.repository.RoleRepository;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.common.constants.SecurityConstants;
@@ -30,10 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +45,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BookingService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final BookingRepository bookingRepository;
     private final ActivityRepository activityRepository;
     private final UserRepository userRepository;
@@ -54,8 +57,10 @@ public class BookingService {
     private final BookingSchedulingService schedulingService;
     private final BookingEmployeeAssignmentService employeeAssignmentService;
     private final BookingValidationService validationService;
+    private final BookingHoldService holdService;
     private final SmsService smsService;
-    private final EmployeeWorkHourRepository employeeWorkHourRepository;
+    private final BookingAvailabilityCalendarService availabilityCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get available time slots for an activity on a specific date
@@ -92,14 +97,22 @@ public class BookingService {
 
         LocalTime endTime = request.getStartTime().plusMinutes(activity.getDurationMinutes());
 
-        // Find available employee
-        User assignedEmployee = employeeAssignmentService.findAvailableEmployee(
-                request.getBookingDate(),
-                request.getStartTime(),
-                endTime,
-                activity,
-                request.getNumberOfParticipants()
-        );
+        // Use the employee of the checkout seat hold, or find an available one
+        User assignedEmployee = null;
+        if (request.getHoldId() != null) {
+            assignedEmployee = holdService.consumeHold(request.getHoldId(), username, activity,
+                    request.getBookingDate(), request.getStartTime(), endTime,
+                    request.getNumberOfParticipants()).orElse(null);
+        }
+        if (assignedEmployee == null) {
+            assignedEmployee = employeeAssignmentService.reserveAvailableEmployee(
+                    request.getBookingDate(),
+                    request.getStartTime(),
+                    endTime,
+                    activity,
+                    request.getNumberOfParticipants()
+            );
+        }
 
         if (assignedEmployee == null) {
             throw new RuntimeException("No employee available for this time slot");
@@ -128,6 +141,7 @@ public class BookingService {
                 saved.getId(), assignedEmployee.getUsername(), activity.getName(),
                 request.getNumberOfParticipants(), activity.getLocationIdentifier());
 
+        eventPublisher.publishEvent(new BookingChangedEvent(saved.getId(), saved.getBookingDate()));
         return BookingDTO.fromEntity(saved);
     }
 
@@ -155,7 +169,7 @@ public class BookingService {
         LocalTime endTime = request.getStartTime().plusMinutes(activity.getDurationMinutes());
 
         // Find available employee
-        User assignedEmployee = employeeAssignmentService.findAvailableEmployee(
+        User assignedEmployee = employeeAssignmentService.reserveAvailableEmployee(
                 request.getBookingDate(),
                 request.getStartTime(),
                 endTime,
@@ -193,6 +207,8 @@ public class BookingService {
                 saved.getId(), request.getGuestName(), assignedEmployee.getUsername(),
                 activity.getName(), request.getNumberOfParticipants());
 
+        eventPublisher.publishEvent(new BookingChangedEvent(saved.getId(), saved.getBookingDate()));
+
         // Send payment link SMS to guest
         if (saved.getGuestPhone() != null && !saved.getGuestPhone().isBlank()) {
             smsService.sendPaymentLink(
@@ -235,6 +251,7 @@ public class BookingService {
         }
 
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(savedBooking.getId(), savedBooking.getBookingDate()));
         return BookingDTO.fromEntity(savedBooking);
     }
 
@@ -257,7 +274,7 @@ public class BookingService {
         }
 
         // Check if employee can handle this booking
-        if (!employeeAssignmentService.canEmployeeHandleBooking(employee, booking.getBookingDate(),
+        if (!employeeAssignmentService.reserveEmployeeForBooking(employee, booking.getBookingDate(),
                 booking.getStartTime(), booking.getEndTime(),
                 booking.getActivity(), booking.getNumberOfParticipants(),
                 booking.getId())) {
@@ -266,6 +283,7 @@ public class BookingService {
 
         booking.setEmployee(employee);
         Booking updated = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(updated.getId(), updated.getBookingDate()));
         return BookingDTO.fromEntity(updated);
     }
 
@@ -273,20 +291,44 @@ public class BookingService {
      * Get all bookings
      */
     public List<BookingDTO> getAllBookings() {
-        return bookingRepository.findAll().stream()
-                .map(BookingDTO::fromEntity)
+        return bookingRepository.findAllListRows().stream()
+                .map(BookingDTO::fromListRow)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one keyset page of bookings, newest booking date first
+     */
+    public BookingPageDTO getBookingsPage(BookingSearchCriteria criteria, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // One extra row tells whether another page follows
+        List<BookingListRow> rows = bookingRepository.findListPage(criteria, BookingCursor.decode(cursor), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return BookingPageDTO.builder()
+                .items(rows.stream().map(BookingDTO::fromListRow).collect(Collectors.toList()))
+                .nextCursor(hasMore ? BookingCursor.after(rows.get(rows.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     /**
      * Get bookings for a specific user
      */
     public List<BookingDTO> getUserBookings(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        List<BookingListRow> rows = bookingRepository.findListRowsByUsername(username);
+
+        // Only an empty result needs the extra lookup to tell "no bookings" from "no such user"
+        if (rows.isEmpty() && !userRepository.existsByUsername(username)) {
+            throw new RuntimeException("User not found");
+        }
 
-        return bookingRepository.findByUserId(user.getId()).stream()
-                .map(BookingDTO::fromEntity)
+        return rows.stream()
+                .map(BookingDTO::fromListRow)
                 .collect(Collectors.toList());
     }
 
@@ -308,6 +350,7 @@ public class BookingService {
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), booking.getBookingDate()));
     }
 
     /**
@@ -317,31 +360,6 @@ public class BookingService {
         return validationService.canAcceptPayment(bookingId);
     }
 
-    /**
-     * Automatically cancel expired bookings (runs hourly)
-     */
-    @Scheduled(fixedRate = 3600000) // Run every hour
-    @Transactional
-    public void cancelExpiredBookings() {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Booking> expiredBookings = bookingRepository.findAll().stream()
-                .filter(b -> b.getStatus() == Booking.BookingStatus.CONFIRMED)
-                .filter(b -> b.getPaymentStatus() == Booking.PaymentStatus.UNPAID)
-                .filter(b -> b.getPaymentDeadline() != null)
-                .filter(b -> now.isAfter(b.getPaymentDeadline()))
-                .collect(Collectors.toList());
-
-        for (Booking booking : expiredBookings) {
-            booking.setStatus(Booking.BookingStatus.CANCELLED);
-            bookingRepository.save(booking);
-        }
-
-        if (!expiredBookings.isEmpty()) {
-            log.info("Auto-cancelled {} expired bookings", expiredBookings.size());
-        }
-    }
-
     /**
      * Utility method: Check if two time ranges overlap
      */
@@ -349,106 +367,14 @@ public class BookingService {
         return schedulingService.timesOverlap(start1, end1, start2, end2);
     }
 
+    /**
+     * Get the dates of a month that still have free slots, served from the availability calendar
+     * A free slot does not depend on the number of participants, which the day's time slots check instead
+     */
     public List<String> getAvailableDatesForMonth(Long activityId, LocalDate date, int participants) {
         Activity activity = activityRepository.findById(activityId)
                 .orElseThrow(() -> new ResourceNotFoundException("Activity", activityId));
 
-        YearMonth yearMonth = YearMonth.from(date);
-        LocalDate startOfMonth = yearMonth.atDay(1);
-        LocalDate endOfMonth = yearMonth.atEndOfMonth();
-
-        // 1. Fetch all Employees working this month
-        // We assume this returns work hours for ALL employees capable of doing activities
-        List<EmployeeWorkHour> allWorkHours = employeeWorkHourRepository.findEmployeeWorkHoursInDateRange(
-                startOfMonth, endOfMonth
-        );
-
-        // 2. Fetch all ACTIVE bookings for this month (ignore CANCELLED)
-        List<Booking> allBookings = bookingRepository.findByBookingDateBetweenAndStatusNot(
-                startOfMonth, endOfMonth, Booking.BookingStatus.CANCELLED
-        );
-
-        // 3. Group data by Date for efficient lookup
-        Map<LocalDate, List<EmployeeWorkHour>> workHoursByDate = allWorkHours.stream()
-                .collect(Collectors.groupingBy(EmployeeWorkHour::getWorkDate));
-
-        Map<LocalDate, List<Booking>> bookingsByDate = allBookings.stream()
-                .collect(Collectors.groupingBy(Booking::getBookingDate));
-
-        List<String> availableDates = new ArrayList<>();
-
-        // 4. Iterate through every day of the month
-        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
-            LocalDate currentDate = yearMonth.atDay(day);
-
-            // optimization: skip past days
-            if (currentDate.isBefore(LocalDate.now())) {
-                continue;
-            }
-
-            // If no one is working that day, skip
-            if (!workHoursByDate.containsKey(currentDate)) {
-                continue;
-            }
-
-            // Check if there is AT LEAST one slot available on this day
-            if (isDayAvailable(currentDate, activity, participants,
-                    workHoursByDate.get(currentDate),
-                    bookingsByDate.getOrDefault(currentDate, Collections.emptyList()))) {
-                availableDates.add(currentDate.toString());
-            }
-        }
-
-        return availableDates;
-    }
-
-    /**
-     * Helper: Checks if a specific day has enough capacity for the activity.
-     */
-    private boolean isDayAvailable(LocalDate date, Activity activity, int participants,
-                                   List<EmployeeWorkHour> workHours, List<Booking> bookings) {
-
-        long durationMinutes = activity.getDurationMinutes();
-
-        // Iterate over every employee working today
-        for (EmployeeWorkHour workHour : workHours) {
-            User employee = workHour.getEmployee();
-
-            // 1. Filter bookings for THIS specific employee
-            List<Booking> employeeBookings = bookings.stream()
-                    .filter(b -> b.getEmployee().getId().equals(employee.getId()))
-                    .collect(Collectors.toList());
-
-            // 2. Generate potential slots for this employee
-            // We scan their work day in steps (e.g., every 30 mins)
-            LocalTime scanTime = workHour.getStartTime();
-            LocalTime workEndTime = workHour.getEndTime();
-
-            while (scanTime.plusMinutes(durationMinutes).isBefore(workEndTime) ||
-                    scanTime.plusMinutes(durationMinutes).equals(workEndTime)) {
-
-                LocalTime slotEnd = scanTime.plusMinutes(durationMinutes);
-
-                // 3. Check if this specific slot overlaps with any existing booking
-                boolean isSlotFree = true;
-                for (Booking booking : employeeBookings) {
-                    if (timesOverlap(scanTime, slotEnd, booking.getStartTime(), booking.getEndTime())) {
-                        isSlotFree = false;
-                        break;
-                    }
-                }
-
-                // 4. If we found ONE free slot, the Day is available! Return true immediately.
-                if (isSlotFree) {
-                    return true;
-                }
-
-                // Move to next 30-min block (or 15 min for finer granularity)
-                scanTime = scanTime.plusMinutes(30);
-            }
-        }
-
-        // If we checked all employees and found no gaps -> Day is full
-        return false;
+        return availabilityCalendarService.getAvailableDates(activity, YearMonth.from(date));
     }
 }
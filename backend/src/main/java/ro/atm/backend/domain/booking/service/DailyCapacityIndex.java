@@ -0,0 +1,108 @@
+package ro.atm.backend.domain.booking.service;
+
+import ro.atm.backend.common.util.IntervalIndex;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.entity.BookingHold;
+import ro.atm.backend.domain.employee.entity.EmployeeWorkHour;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory occupancy snapshot of a single day, grouped per employee.
+ * Built once from bulk-loaded bookings, seat holds and work hours so that every slot/employee
+ * capacity check of a request can be answered without going back to the database.
+ */
+public final class DailyCapacityIndex {
+
+    private final LocalDate date;
+    private final List<EmployeeWorkHour> workHours;
+    private final IntervalIndex<EmployeeWorkHour> workHourIndex;
+    private final Map<Long, IntervalIndex<Booking>> bookingsByEmployee;
+    private final Map<Long, IntervalIndex<BookingHold>> holdsByEmployee;
+
+    private DailyCapacityIndex(LocalDate date, List<EmployeeWorkHour> workHours,
+                               Map<Long, IntervalIndex<Booking>> bookingsByEmployee,
+                               Map<Long, IntervalIndex<BookingHold>> holdsByEmployee) {
+        this.date = date;
+        this.workHours = workHours;
+        this.workHourIndex = IntervalIndex.of(workHours, EmployeeWorkHour::getStartTime, EmployeeWorkHour::getEndTime);
+        this.bookingsByEmployee = bookingsByEmployee;
+        this.holdsByEmployee = holdsByEmployee;
+    }
+
+    /**
+     * Build the index from the active bookings, active seat holds and work hours of a day
+     */
+    public static DailyCapacityIndex of(LocalDate date, List<EmployeeWorkHour> workHours, List<Booking> bookings,
+                                        List<BookingHold> holds) {
+        Map<Long, IntervalIndex<Booking>> bookingsByEmployee = bookings.stream()
+                .filter(b -> b.getEmployee() != null)
+                .filter(b -> b.getStatus() != Booking.BookingStatus.CANCELLED)
+                .collect(Collectors.groupingBy(b -> b.getEmployee().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), BookingIntervals::index)));
+
+        Map<Long, IntervalIndex<BookingHold>> holdsByEmployee = holds.stream()
+                .collect(Collectors.groupingBy(h -> h.getEmployee().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), BookingIntervals::indexHolds)));
+
+        return new DailyCapacityIndex(date, List.copyOf(workHours), bookingsByEmployee, holdsByEmployee);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<EmployeeWorkHour> getWorkHours() {
+        return workHours;
+    }
+
+    public boolean hasWorkHours() {
+        return !workHours.isEmpty();
+    }
+
+    /**
+     * Check if the given interval fits entirely inside at least one work hour of the day
+     */
+    public boolean fallsWithinWorkHours(LocalTime startTime, LocalTime endTime) {
+        // Only work hours overlapping the interval can contain it
+        return workHourIndex.findOverlapping(startTime, endTime).stream()
+                .anyMatch(wh -> !startTime.isBefore(wh.getStartTime()) &&
+                        !endTime.isAfter(wh.getEndTime()));
+    }
+
+    /**
+     * Interval index of the active bookings assigned to an employee on this day
+     */
+    public IntervalIndex<Booking> getBookingsForEmployee(Long employeeId) {
+        return bookingsByEmployee.getOrDefault(employeeId, IntervalIndex.empty());
+    }
+
+    /**
+     * Interval index of the active seat holds on an employee on this day
+     */
+    public IntervalIndex<BookingHold> getHoldsForEmployee(Long employeeId) {
+        return holdsByEmployee.getOrDefault(employeeId, IntervalIndex.empty());
+    }
+
+    /**
+     * Sub-windows of [windowStart, windowEnd) where an employee has neither a booking nor a seat hold
+     */
+    public List<IntervalIndex.TimeWindow> freeGaps(Long employeeId, LocalTime windowStart, LocalTime windowEnd) {
+        List<IntervalIndex.TimeWindow> bookingGaps = getBookingsForEmployee(employeeId).freeGaps(windowStart, windowEnd);
+        IntervalIndex<BookingHold> holds = getHoldsForEmployee(employeeId);
+        if (holds.isEmpty()) {
+            return bookingGaps;
+        }
+
+        List<IntervalIndex.TimeWindow> gaps = new ArrayList<>();
+        for (IntervalIndex.TimeWindow gap : bookingGaps) {
+            gaps.addAll(holds.freeGaps(gap.start(), gap.end()));
+        }
+        return gaps;
+    }
+}
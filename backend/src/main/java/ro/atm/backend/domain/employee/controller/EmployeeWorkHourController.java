@@ -120,7 +120,7 @@ public class EmployeeWorkHourController {
 
     @PostMapping("/employee/{employeeId}/bulk")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<EmployeeWorkHourDTO>> createBulkEmployeeWorkHours(
+    public ResponseEntity<WorkHourBulkResultDTO<EmployeeWorkHourDTO>> createBulkEmployeeWorkHours(
             @PathVariable Long employeeId,
             @RequestBody EmployeeWorkHourBulkCreateDTO dto) {
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -0,0 +1,14 @@
+package ro.atm.backend.domain.employee.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkDateConflictDTO {
+    private LocalDate workDate;
+    private String reason;
+}
@@ -0,0 +1,16 @@
+package ro.atm.backend.domain.employee.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk work-hour operation: the rows created and the dates that were skipped
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkHourBulkResultDTO<T> {
+    private List<T> created;
+    private List<WorkDateConflictDTO> conflicts;
+}
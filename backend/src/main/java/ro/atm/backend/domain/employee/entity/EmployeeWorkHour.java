@@ -22,8 +22,10 @@ import java.time.LocalTime;
 @Builder
 @Getter
 public class EmployeeWorkHour {
+    // Sequence ids (pooled by 50) so bulk season planning inserts can be JDBC batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_work_hours_seq")
+    @SequenceGenerator(name = "employee_work_hours_seq", sequenceName = "employee_work_hours_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
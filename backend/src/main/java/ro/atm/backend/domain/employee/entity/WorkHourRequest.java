@@ -16,8 +16,10 @@ import java.time.LocalTime;
 @Builder
 public class WorkHourRequest {
 
+    // Sequence ids (pooled by 50) so bulk season planning inserts can be JDBC batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_hour_requests_seq")
+    @SequenceGenerator(name = "work_hour_requests_seq", sequenceName = "work_hour_requests_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
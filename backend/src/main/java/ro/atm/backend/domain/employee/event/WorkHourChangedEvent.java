@@ -0,0 +1,19 @@
+package ro.atm.backend.domain.employee.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Published whenever employee work hours are approved, created or deleted.
+ * Listeners use the affected dates to invalidate derived availability data.
+ */
+@Getter
+@AllArgsConstructor
+public class WorkHourChangedEvent {
+
+    private final Long employeeId;
+    private final List<LocalDate> workDates;
+}
@@ -0,0 +1,91 @@
+package ro.atm.backend.domain.employee.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.atm.backend.common.constants.SecurityConstants;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
+import ro.atm.backend.domain.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached roster of users per role, optionally restricted to enabled accounts.
+ * Replaces full user table scans in the booking hot path; the whole roster is dropped
+ * after any account change is committed on this instance, and reloaded once older than
+ * employee.roster.max-age-seconds so changes made on other instances are picked up.
+ * Only ids and usernames are kept, never the user entities with their credentials.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeRosterCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${employee.roster.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    private final Map<RosterKey, Roster> rosters = new ConcurrentHashMap<>();
+
+    // Bumped on every eviction so that a roster loaded concurrently with a change is not stored
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Enabled users with ROLE_EMPLOYEE, ordered by id
+     */
+    public List<RosterEntry> getEnabledEmployees() {
+        return getUsersWithRole(SecurityConstants.Roles.EMPLOYEE, true);
+    }
+
+    /**
+     * Users holding the given role, ordered by id
+     */
+    public List<RosterEntry> getUsersWithRole(String roleName, boolean enabledOnly) {
+        RosterKey key = new RosterKey(roleName, enabledOnly);
+        long now = System.currentTimeMillis();
+        Roster roster = rosters.get(key);
+        if (roster != null && now - roster.loadedAt() <= maxAgeSeconds * 1000L) {
+            return roster.entries();
+        }
+
+        long generation = evictions.get();
+        List<RosterEntry> entries = userRepository.findByRoleName(roleName).stream()
+                .filter(user -> !enabledOnly || user.isEnabled())
+                .map(user -> new RosterEntry(user.getId(), user.getUsername()))
+                .toList();
+
+        if (evictions.get() == generation) {
+            rosters.put(key, new Roster(entries, now));
+        }
+        return entries;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * Drop every cached roster
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        rosters.clear();
+        log.debug("Employee roster cache evicted");
+    }
+
+    public record RosterEntry(Long id, String username) {
+    }
+
+    private record RosterKey(String roleName, boolean enabledOnly) {
+    }
+
+    private record Roster(List<RosterEntry> entries, long loadedAt) {
+    }
+}
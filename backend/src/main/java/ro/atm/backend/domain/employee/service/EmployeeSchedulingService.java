@@ -3,20 +3,27 @@ package ro.atm.backend.domain.employee.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import ro.atm.backend.domain.activity.entity.Activity;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.booking.dto.CompatibleBookingDTO;
 import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.event.BookingChangedEvent;
 import ro.atm.backend.domain.booking.repository.BookingRepository;
 import ro.atm.backend.domain.booking.service.BookingEmployeeAssignmentService;
+import ro.atm.backend.domain.booking.service.BookingReservationLock;
 import ro.atm.backend.domain.booking.service.BookingSchedulingService;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.domain.employee.dto.EmployeeSwapInfo;
 import ro.atm.backend.domain.employee.dto.EmployeeSwapOptions;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for employee scheduling and swap operations
@@ -30,6 +37,8 @@ public class EmployeeSchedulingService {
     private final BookingRepository bookingRepository;
     private final BookingEmployeeAssignmentService employeeAssignmentService;
     private final BookingSchedulingService schedulingService;
+    private final BookingReservationLock reservationLock;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Checks if employee reassignment requires a swap and provides swap information
@@ -89,7 +98,7 @@ public class EmployeeSchedulingService {
         }
 
         boolean currentEmployeeCanHandle = employeeAssignmentService.canEmployeeHandleBooking(
-                booking.getEmployee(),
+                booking.getEmployee().getId(),
                 conflictingBooking.getBookingDate(),
                 conflictingBooking.getStartTime(),
                 conflictingBooking.getEndTime(),
@@ -147,6 +156,8 @@ public class EmployeeSchedulingService {
             throw new RuntimeException("Bookings are in different categories");
         }
 
+        lockIncomingEmployeeDays(booking1, booking2);
+
         // Swap employees
         User temp = booking1.getEmployee();
         booking1.setEmployee(booking2.getEmployee());
@@ -155,9 +166,34 @@ public class EmployeeSchedulingService {
         bookingRepository.save(booking1);
         bookingRepository.save(booking2);
 
+        eventPublisher.publishEvent(new BookingChangedEvent(booking1.getId(), booking1.getBookingDate()));
+        eventPublisher.publishEvent(new BookingChangedEvent(booking2.getId(), booking2.getBookingDate()));
+
         log.info("Swapped employees between bookings {} and {}", booking1Id, booking2Id);
     }
 
+    /**
+     * Lock the days each employee is moved onto so the swap cannot race a concurrent reservation
+     * Advisory locks are taken in ascending (employee id, date) order, consistent with the reservation path;
+     * the in-process day stripe is only taken when both bookings share a date, since a transaction may hold one stripe
+     */
+    private void lockIncomingEmployeeDays(Booking booking1, Booking booking2) {
+        if (booking1.getBookingDate().equals(booking2.getBookingDate())) {
+            reservationLock.lockDay(booking1.getBookingDate());
+        }
+
+        Stream.of(incomingEmployeeDay(booking2.getEmployee(), booking1),
+                        incomingEmployeeDay(booking1.getEmployee(), booking2))
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(Map.Entry.<Long, LocalDate>comparingByKey().thenComparing(Map.Entry.comparingByValue()))
+                .forEach(entry -> reservationLock.lockEmployeeDay(entry.getKey(), entry.getValue()));
+    }
+
+    private Map.Entry<Long, LocalDate> incomingEmployeeDay(User employee, Booking booking) {
+        return employee == null ? null : Map.entry(employee.getId(), booking.getBookingDate());
+    }
+
     /**
      * Gets available swap options for employee reassignment
      */
@@ -207,7 +243,7 @@ public class EmployeeSchedulingService {
                     // CHECK 1: Can current employee handle the candidate booking (b)?
                     // Exclude the original booking because they're dropping it
                     boolean currentEmployeeCanHandleSwap = employeeAssignmentService.canEmployeeHandleBooking(
-                            currentEmployee,
+                            currentEmployee.getId(),
                             b.getBookingDate(),
                             b.getStartTime(),
                             b.getEndTime(),
@@ -219,7 +255,7 @@ public class EmployeeSchedulingService {
                     // CHECK 2: Can new employee handle the original booking?
                     // Exclude the candidate booking because they're dropping it
                     boolean newEmployeeCanHandleSwap = employeeAssignmentService.canEmployeeHandleBooking(
-                            newEmployee,
+                            newEmployee.getId(),
                             booking.getBookingDate(),
                             booking.getStartTime(),
                             booking.getEndTime(),
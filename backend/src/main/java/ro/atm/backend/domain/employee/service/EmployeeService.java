@@ -3,20 +3,22 @@ package ro.atm.backend.domain.employee.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import ro.atm.backend.common.constants.SecurityConstants;
+import ro.atm.backend.common.security.TokenRevocationService;
 import ro.atm.backend.domain.auth.dto.TotpSetupResponse;
 import ro.atm.backend.domain.auth.entity.Role;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.user.dto.UserDTO;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
 import ro.atm.backend.domain.user.repository.RoleRepository;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.domain.employee.dto.CreateEmployeeRequest;
 import ro.atm.backend.domain.employee.dto.EmployeeDTO;
 import ro.atm.backend.domain.employee.dto.EmployeeSwapInfo;
 import ro.atm.backend.domain.employee.dto.EmployeeSwapOptions;
-import ro.atm.backend.common.constants.SecurityConstants;
-import ro.atm.backend.common.exception.ResourceNotFoundException;
 import ro.atm.backend.infrastructure.email.EmailService;
 
 import java.security.SecureRandom;
@@ -38,7 +40,9 @@ public class EmployeeService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Specialized services
     private final EmployeeSchedulingService schedulingService;
@@ -48,11 +52,7 @@ public class EmployeeService {
     // ========== Core CRUD Operations ==========
 
     public List<EmployeeDTO> getAllEmployees() {
-        Role employeeRole = roleRepository.findByName(SecurityConstants.Roles.EMPLOYEE)
-                .orElseThrow(() -> new ResourceNotFoundException("Role", SecurityConstants.Roles.EMPLOYEE));
-
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRoles().contains(employeeRole))
+        return userRepository.findByRoleName(SecurityConstants.Roles.EMPLOYEE).stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
@@ -114,6 +114,7 @@ public class EmployeeService {
 
         user = userRepository.save(user);
         log.info("User {} saved with ID: {}", user.getUsername(), user.getId());
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
 
         // Send employee account creation email with temporary password and verification link
         emailService.sendEmployeeAccountCreatedEmail(
@@ -131,6 +132,8 @@ public class EmployeeService {
     @Transactional
     public UserDTO updateEmployee(Long id, CreateEmployeeRequest request) {
         User user = validationService.validateEmployeeExists(id);
+        boolean wasEnabled = user.isEnabled();
+        Set<String> previousRoles = roleNames(user.getRoles());
 
         // Update basic fields
         user.setEmail(request.getEmail());
@@ -164,11 +167,21 @@ public class EmployeeService {
         }
 
         user = userRepository.save(user);
+        // Roles are carried in access tokens; tokens of a disabled or re-roled user must not outlive the change
+        if ((wasEnabled && !user.isEnabled()) || !previousRoles.equals(roleNames(user.getRoles()))) {
+            tokenRevocationService.revoke(user.getUsername());
+        }
+        eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
         return UserDTO.fromEntity(user);
     }
 
+    @Transactional
     public void deleteEmployee(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            tokenRevocationService.revoke(user.getUsername());
+            eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
+        });
     }
 
     // ========== Delegated Operations ==========
@@ -261,4 +274,8 @@ public class EmployeeService {
 
         return new String(passwordArray);
     }
+
+    private static Set<String> roleNames(Set<Role> roles) {
+        return roles.stream().map(Role::getName).collect(Collectors.toSet());
+    }
 }
@@ -2,14 +2,17 @@ package ro.atm.backend.domain.employee.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ro.atm.backend.common.util.IntervalIndex;
 import ro.atm.backend.domain.employee.dto.*;
 import ro.atm.backend.domain.employee.entity.EmployeeWorkHour;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.employee.entity.WorkHourRequest;
+import ro.atm.backend.domain.employee.event.WorkHourChangedEvent;
 import ro.atm.backend.domain.employee.repository.EmployeeWorkHourRepository;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.domain.employee.repository.WorkHourRequestRepository;
@@ -18,7 +21,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +35,7 @@ public class EmployeeWorkHourService {
     private final WorkHourRequestRepository requestRepository;
     private final EmployeeWorkHourRepository workHourRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Employee Methods
 
@@ -86,9 +94,8 @@ public class EmployeeWorkHourService {
     }
 
     @Transactional
-    public List<WorkHourRequestDTO> createBulkRequest(WorkHourRequestCreateDTO dto, List<LocalDate> dates) {
+    public WorkHourBulkResultDTO<WorkHourRequestDTO> createBulkRequest(WorkHourRequestCreateDTO dto, List<LocalDate> dates) {
         User currentUser = getCurrentUser();
-        List<WorkHourRequestDTO> results = new ArrayList<>();
 
         // Parse times once if available
         LocalTime startTime = null;
@@ -99,12 +106,23 @@ public class EmployeeWorkHourService {
             validateTimes(startTime, endTime);
         }
 
+        // One query for the existing schedule of the whole range, then validate in memory
+        Map<LocalDate, List<EmployeeWorkHour>> existingByDate = loadWorkHoursByDate(currentUser, dates);
+        List<WorkDateConflictDTO> conflicts = new ArrayList<>();
+        List<WorkHourRequest> requests = new ArrayList<>();
+        Set<LocalDate> seen = new HashSet<>();
+        LocalDate today = LocalDate.now();
+
         for (LocalDate date : dates) {
-            if (date.isBefore(LocalDate.now())) {
-                continue; // Skip past dates
+            String conflict = date.isBefore(today)
+                    ? "Cannot create request for past dates"
+                    : findConflict(date, seen, existingByDate, startTime, endTime);
+            if (conflict != null) {
+                conflicts.add(new WorkDateConflictDTO(date, conflict));
+                continue;
             }
 
-            WorkHourRequest request = WorkHourRequest.builder()
+            requests.add(WorkHourRequest.builder()
                     .employee(currentUser)
                     .workDate(date)
                     .startTime(startTime)
@@ -112,13 +130,14 @@ public class EmployeeWorkHourService {
                     .isAvailable(dto.getIsAvailable())
                     .notes(dto.getNotes())
                     .status(WorkHourRequest.RequestStatus.PENDING)
-                    .build();
-
-            WorkHourRequest savedRequest = requestRepository.save(request);
-            results.add(convertToRequestDTO(savedRequest));
+                    .build());
         }
 
-        return results;
+        List<WorkHourRequestDTO> created = requestRepository.saveAll(requests).stream()
+                .map(this::convertToRequestDTO)
+                .collect(Collectors.toList());
+
+        return new WorkHourBulkResultDTO<>(created, conflicts);
     }
 
     public List<WorkHourRequestDTO> getMyRequests() {
@@ -158,6 +177,7 @@ public class EmployeeWorkHourService {
         }
 
         workHourRepository.delete(workHour);
+        publishWorkHourChanged(workHour.getEmployee(), List.of(workHour.getWorkDate()));
     }
 
     // Admin Methods
@@ -199,6 +219,7 @@ public class EmployeeWorkHourService {
                 .build();
 
         workHourRepository.save(workHour);
+        publishWorkHourChanged(workHour.getEmployee(), List.of(workHour.getWorkDate()));
 
         // Update request status
         request.setStatus(WorkHourRequest.RequestStatus.APPROVED);
@@ -283,14 +304,15 @@ public class EmployeeWorkHourService {
                 .build();
 
         EmployeeWorkHour savedWorkHour = workHourRepository.save(workHour);
+        publishWorkHourChanged(employee, List.of(savedWorkHour.getWorkDate()));
         return convertToWorkHourDTO(savedWorkHour);
     }
     @Transactional
     public void deleteEmployeeWorkHour(Long id) {
-        if (!workHourRepository.existsById(id)) {
-            throw new EntityNotFoundException("Work hour not found with id: " + id);
-        }
-        workHourRepository.deleteById(id);
+        EmployeeWorkHour workHour = workHourRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Work hour not found with id: " + id));
+        workHourRepository.delete(workHour);
+        publishWorkHourChanged(workHour.getEmployee(), List.of(workHour.getWorkDate()));
     }
 
     @Transactional
@@ -299,10 +321,15 @@ public class EmployeeWorkHourService {
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + employeeId));
 
         workHourRepository.deleteByEmployeeAndWorkDate(employee, workDate);
+        publishWorkHourChanged(employee, List.of(workDate));
     }
 
+    /**
+     * Create the same interval on many dates with one prefetch query and batched inserts.
+     * Dates that overlap the existing schedule (or repeat in the request) are reported instead of failing the batch.
+     */
     @Transactional
-    public List<EmployeeWorkHourDTO> createBulkEmployeeWorkHours(
+    public WorkHourBulkResultDTO<EmployeeWorkHourDTO> createBulkEmployeeWorkHours(
             Long employeeId, EmployeeWorkHourBulkCreateDTO dto) {
         User employee = userRepository.findById(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
@@ -315,29 +342,46 @@ public class EmployeeWorkHourService {
             validateTimes(startTime, endTime);
         }
 
-        List<EmployeeWorkHourDTO> results = new ArrayList<>();
+        Map<LocalDate, List<EmployeeWorkHour>> existingByDate = loadWorkHoursByDate(employee, dto.getWorkDates());
+        List<WorkDateConflictDTO> conflicts = new ArrayList<>();
+        List<EmployeeWorkHour> workHours = new ArrayList<>();
+        Set<LocalDate> seen = new HashSet<>();
 
         for (LocalDate date : dto.getWorkDates()) {
+            String conflict = findConflict(date, seen, existingByDate, startTime, endTime);
+            if (conflict != null) {
+                conflicts.add(new WorkDateConflictDTO(date, conflict));
+                continue;
+            }
 
-            validateNoOverlap(employee, date, startTime, endTime);
-
-            EmployeeWorkHour workHour = EmployeeWorkHour.builder()
+            workHours.add(EmployeeWorkHour.builder()
                     .employee(employee)
                     .workDate(date)
                     .startTime(startTime)
                     .endTime(endTime)
                     .isAvailable(dto.getIsAvailable())
-                    .build();
+                    .build());
+        }
 
-            EmployeeWorkHour savedWorkHour = workHourRepository.save(workHour);
-            results.add(convertToWorkHourDTO(savedWorkHour));
+        // Sequence ids let Hibernate send these as JDBC batches on flush
+        List<EmployeeWorkHour> saved = workHourRepository.saveAll(workHours);
+        if (!saved.isEmpty()) {
+            publishWorkHourChanged(employee, saved.stream().map(EmployeeWorkHour::getWorkDate).toList());
         }
 
-        return results;
+        List<EmployeeWorkHourDTO> created = saved.stream()
+                .map(this::convertToWorkHourDTO)
+                .collect(Collectors.toList());
+
+        return new WorkHourBulkResultDTO<>(created, conflicts);
     }
 
     // Helper Methods
 
+    private void publishWorkHourChanged(User employee, List<LocalDate> workDates) {
+        eventPublisher.publishEvent(new WorkHourChangedEvent(employee.getId(), List.copyOf(workDates)));
+    }
+
     private User getCurrentUser() {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         return userRepository.findByUsername(username)
@@ -353,14 +397,7 @@ public class EmployeeWorkHourService {
     private void validateNoOverlap(User employee, LocalDate date, LocalTime newStart, LocalTime newEnd) {
         List<EmployeeWorkHour> existingHours = workHourRepository.findByEmployeeAndWorkDate(employee, date);
 
-        boolean hasOverlap = existingHours.stream().anyMatch(existing -> {
-            LocalTime existStart = existing.getStartTime();
-            LocalTime existEnd = existing.getEndTime();
-
-            return newStart.isBefore(existEnd) && newEnd.isAfter(existStart);
-        });
-
-        if (hasOverlap) {
+        if (overlapsAny(existingHours, newStart, newEnd)) {
             throw new RuntimeException(
                     String.format("Overlapping work hours detected for employee %s on %s. New interval: %s-%s",
                             employee.getUsername(), date, newStart, newEnd)
@@ -368,6 +405,39 @@ public class EmployeeWorkHourService {
         }
     }
 
+    private boolean overlapsAny(List<EmployeeWorkHour> existingHours, LocalTime newStart, LocalTime newEnd) {
+        if (existingHours == null || existingHours.isEmpty() || newStart == null || newEnd == null) {
+            return false;
+        }
+        return IntervalIndex.of(existingHours, EmployeeWorkHour::getStartTime, EmployeeWorkHour::getEndTime)
+                .anyOverlapping(newStart, newEnd);
+    }
+
+    // Existing work hours of an employee for every date of a bulk operation, loaded with a single range query
+    private Map<LocalDate, List<EmployeeWorkHour>> loadWorkHoursByDate(User employee, List<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate first = Collections.min(dates);
+        LocalDate last = Collections.max(dates);
+
+        return workHourRepository.findByEmployeeAndWorkDateBetweenOrderByWorkDate(employee, first, last).stream()
+                .collect(Collectors.groupingBy(EmployeeWorkHour::getWorkDate));
+    }
+
+    // Reason a date of a bulk operation cannot be created, or null if it can
+    private String findConflict(LocalDate date, Set<LocalDate> seen,
+                                Map<LocalDate, List<EmployeeWorkHour>> existingByDate,
+                                LocalTime startTime, LocalTime endTime) {
+        if (!seen.add(date)) {
+            return "Date is repeated in the request";
+        }
+        if (overlapsAny(existingByDate.get(date), startTime, endTime)) {
+            return String.format("Overlaps existing work hours (new interval: %s-%s)", startTime, endTime);
+        }
+        return null;
+    }
+
     private WorkHourRequestDTO convertToRequestDTO(WorkHourRequest request) {
         return WorkHourRequestDTO.builder()
                 .id(request.getId())
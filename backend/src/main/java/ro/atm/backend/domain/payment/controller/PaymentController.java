@@ -3,14 +3,20 @@ package ro.atm.backend.domain.payment.controller;
 import com.stripe.exception.StripeException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ro.atm.backend.common.export.ExportFormat;
 import ro.atm.backend.domain.payment.dto.PaymentDTO;
 import ro.atm.backend.domain.payment.dto.PaymentIntentRequest;
 import ro.atm.backend.domain.payment.dto.PaymentIntentResponse;
+import ro.atm.backend.domain.payment.service.PaymentExportService;
 import ro.atm.backend.domain.payment.service.PaymentService;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +27,7 @@ import java.util.Map;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentExportService paymentExportService;
 
     @Value("${stripe.publishable.key}")
     private String stripePublishableKey;
@@ -56,4 +63,18 @@ public class PaymentController {
         paymentService.recordCashPayment(bookingId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        String filename = "payments-" + LocalDate.now() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> paymentExportService.export(format, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
 }
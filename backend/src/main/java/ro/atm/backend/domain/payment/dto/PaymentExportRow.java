@@ -0,0 +1,56 @@
+package ro.atm.backend.domain.payment.dto;
+
+import ro.atm.backend.domain.payment.entity.Payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat export row of a payment with its booking and customer.
+ * Filled by a JPQL constructor expression so streaming an export never materializes Payment/Booking entities.
+ */
+public record PaymentExportRow(
+        Long id,
+        Long bookingId,
+        BigDecimal amount,
+        Payment.PaymentType paymentType,
+        Payment.PaymentMethod paymentMethod,
+        Payment.PaymentStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt,
+        String activityName,
+        LocalDate bookingDate,
+        Long userId,
+        String userFirstName,
+        String userLastName,
+        String userEmail,
+        String userPhone,
+        String guestName,
+        String guestEmail,
+        String guestPhone
+) {
+
+    public static final String SELECT = "SELECT new ro.atm.backend.domain.payment.dto.PaymentExportRow(" +
+            "p.id, b.id, p.amount, p.paymentType, p.paymentMethod, p.status, p.createdAt, p.completedAt, " +
+            "a.name, b.bookingDate, u.id, u.firstName, u.lastName, u.email, u.phoneNumber, b.guestName, b.guestEmail, b.guestPhone) " +
+            "FROM Payment p JOIN p.booking b JOIN b.activity a LEFT JOIN b.user u ";
+
+    /**
+     * Customer name: the account holder, or the guest for guest bookings
+     */
+    public String customerName() {
+        if (userId == null) {
+            return guestName;
+        }
+        return ((userFirstName != null ? userFirstName : "") + " " + (userLastName != null ? userLastName : "")).trim();
+    }
+
+    public String customerEmail() {
+        return userId != null ? userEmail : guestEmail;
+    }
+
+    public String customerPhone() {
+        return userId != null ? userPhone : guestPhone;
+    }
+}
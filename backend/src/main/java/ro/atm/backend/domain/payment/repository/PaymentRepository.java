@@ -1,14 +1,27 @@
 package ro.atm.backend.domain.payment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ro.atm.backend.domain.payment.dto.PaymentExportRow;
 import ro.atm.backend.domain.payment.entity.Payment;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByBookingId(Long bookingId);
     Optional<Payment> findByStripePaymentIntentId(String paymentIntentId);
+
+    /**
+     * Stream every payment for export; must be consumed (and closed) inside a transaction
+     */
+    @Query(PaymentExportRow.SELECT + "ORDER BY p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PaymentExportRow> streamExportRows();
 }
@@ -0,0 +1,50 @@
+package ro.atm.backend.domain.payment.service;
+
+import org.springframework.stereotype.Service;
+import ro.atm.backend.common.export.ExportColumn;
+import ro.atm.backend.common.export.ExportFormat;
+import ro.atm.backend.common.export.StreamingExporter;
+import ro.atm.backend.domain.payment.dto.PaymentExportRow;
+import ro.atm.backend.domain.payment.repository.PaymentRepository;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Streams every payment, with its booking and customer, as CSV or NDJSON straight from a database cursor
+ */
+@Service
+public class PaymentExportService {
+
+    private static final List<ExportColumn<PaymentExportRow>> COLUMNS = List.of(
+            ExportColumn.of("id", PaymentExportRow::id),
+            ExportColumn.of("bookingId", PaymentExportRow::bookingId),
+            ExportColumn.of("amount", PaymentExportRow::amount),
+            ExportColumn.of("paymentType", PaymentExportRow::paymentType),
+            ExportColumn.of("paymentMethod", PaymentExportRow::paymentMethod),
+            ExportColumn.of("status", PaymentExportRow::status),
+            ExportColumn.of("createdAt", PaymentExportRow::createdAt),
+            ExportColumn.of("completedAt", PaymentExportRow::completedAt),
+            ExportColumn.of("activityName", PaymentExportRow::activityName),
+            ExportColumn.of("bookingDate", PaymentExportRow::bookingDate),
+            ExportColumn.of("userId", PaymentExportRow::userId),
+            ExportColumn.of("customerName", PaymentExportRow::customerName),
+            ExportColumn.of("customerEmail", PaymentExportRow::customerEmail),
+            ExportColumn.of("customerPhone", PaymentExportRow::customerPhone)
+    );
+
+    private final PaymentRepository paymentRepository;
+    private final StreamingExporter exporter;
+
+    public PaymentExportService(PaymentRepository paymentRepository, StreamingExporter exporter) {
+        this.paymentRepository = paymentRepository;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Write all payments to the output stream; the stream itself is not closed
+     */
+    public void export(ExportFormat format, boolean gzip, OutputStream out) {
+        exporter.export("payments", paymentRepository::streamExportRows, COLUMNS, format, gzip, out);
+    }
+}
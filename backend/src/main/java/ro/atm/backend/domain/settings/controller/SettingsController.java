@@ -1,6 +1,7 @@
 package ro.atm.backend.domain.settings.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,7 +24,12 @@ public class SettingsController {
 
     @GetMapping
     public ResponseEntity<SettingsDTO> getSettings() {
-        return ResponseEntity.ok(settingsService.getSettings());
+        // Served from memory; a matching If-None-Match yields 304
+        SettingsService.SettingsSnapshot snapshot = settingsService.getSettingsSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(snapshot.settings());
     }
 
     @PutMapping
@@ -7,6 +7,7 @@ import lombok.*;
 import ro.atm.backend.domain.settings.entity.Settings;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Data
@@ -55,19 +56,26 @@ public class SettingsDTO {
                 .twitterUrl(settings.getTwitterUrl())
                 .aboutUsTitle(settings.getAboutUsTitle())
                 .aboutUsContent(settings.getAboutUsContent())
-                .aboutUsMediaUrls(mediaUrls)
+                .aboutUsMediaUrls(Collections.unmodifiableList(mediaUrls))
                 .build();
     }
 
+    /**
+     * Serialize media URLs to the JSON array stored in the entity
+     */
+    public static String writeMediaUrls(List<String> mediaUrls) {
+        try {
+            return objectMapper.writeValueAsString(mediaUrls);
+        } catch (JsonProcessingException e) {
+            // If serialization fails, store empty array
+            return "[]";
+        }
+    }
+
     public Settings toEntity() {
         String mediaUrlsJson = null;
         if (this.aboutUsMediaUrls != null && !this.aboutUsMediaUrls.isEmpty()) {
-            try {
-                mediaUrlsJson = objectMapper.writeValueAsString(this.aboutUsMediaUrls);
-            } catch (JsonProcessingException e) {
-                // If serialization fails, store empty array
-                mediaUrlsJson = "[]";
-            }
+            mediaUrlsJson = writeMediaUrls(this.aboutUsMediaUrls);
         }
 
         return Settings.builder()
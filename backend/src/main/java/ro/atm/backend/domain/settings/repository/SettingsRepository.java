@@ -1,7 +1,16 @@
 package ro.atm.backend.domain.settings.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import ro.atm.backend.domain.settings.entity.Settings;
 
+import java.util.Optional;
+
 public interface SettingsRepository extends JpaRepository<Settings, Long> {
+
+    // The single settings row, served from the query cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Settings> findFirstByOrderByIdAsc();
 }
@@ -1,31 +1,75 @@
 package ro.atm.backend.domain.settings.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ro.atm.backend.common.util.ContentTag;
 import ro.atm.backend.domain.settings.dto.SettingsDTO;
 import ro.atm.backend.domain.settings.entity.Settings;
 import ro.atm.backend.domain.settings.repository.SettingsRepository;
+import ro.atm.backend.infrastructure.cache.ReferenceDataCache;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Site settings, served from an in-memory snapshot of the single settings row.
+ * Updates write through to the snapshot once committed; the snapshot is also reloaded after
+ * settings.cache.max-age-seconds so that updates made on another instance show up.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SettingsService {
 
     private final SettingsRepository settingsRepository;
+    private final ReferenceDataCache referenceDataCache;
+
+    @Value("${settings.cache.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    private final AtomicReference<SettingsSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Settings together with their ETag; the DTO is shared and must not be modified
+     */
+    public record SettingsSnapshot(SettingsDTO settings, String etag, long loadedAt) {
+
+        static SettingsSnapshot of(Settings settings) {
+            SettingsDTO dto = SettingsDTO.fromEntity(settings);
+            return new SettingsSnapshot(dto, ContentTag.of(dto.toString()), System.currentTimeMillis());
+        }
+    }
 
     public SettingsDTO getSettings() {
-        // Always return the first (and only) settings record
-        Settings settings = settingsRepository.findAll().stream()
-                .findFirst()
-                .orElseGet(this::createDefaultSettings);
+        return getSettingsSnapshot().settings();
+    }
 
-        return SettingsDTO.fromEntity(settings);
+    public SettingsSnapshot getSettingsSnapshot() {
+        SettingsSnapshot current = snapshot.get();
+        if (current != null && System.currentTimeMillis() - current.loadedAt() <= maxAgeSeconds * 1000L) {
+            return current;
+        }
+        synchronized (this) {
+            SettingsSnapshot previous = snapshot.get();
+            if (previous != null && System.currentTimeMillis() - previous.loadedAt() <= maxAgeSeconds * 1000L) {
+                return previous;
+            }
+            // Always return the first (and only) settings record
+            Settings settings = settingsRepository.findFirstByOrderByIdAsc()
+                    .orElseGet(this::createDefaultSettings);
+            current = SettingsSnapshot.of(settings);
+            // An update committed meanwhile wins over what was just loaded
+            return snapshot.compareAndSet(previous, current) ? current : snapshot.get();
+        }
     }
 
     @Transactional
     public SettingsDTO updateSettings(SettingsDTO settingsDTO) {
-        Settings settings = settingsRepository.findAll().stream()
-                .findFirst()
+        Settings settings = settingsRepository.findFirstByOrderByIdAsc()
                 .orElseGet(this::createDefaultSettings);
 
         // Update fields
@@ -42,19 +86,32 @@ public class SettingsService {
 
         // Convert media URLs list to JSON string
         if (settingsDTO.getAboutUsMediaUrls() != null) {
-            try {
-                com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                String mediaUrlsJson = objectMapper.writeValueAsString(settingsDTO.getAboutUsMediaUrls());
-                settings.setAboutUsMediaUrls(mediaUrlsJson);
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                settings.setAboutUsMediaUrls("[]");
-            }
+            settings.setAboutUsMediaUrls(SettingsDTO.writeMediaUrls(settingsDTO.getAboutUsMediaUrls()));
         } else {
             settings.setAboutUsMediaUrls(null);
         }
 
         Settings saved = settingsRepository.save(settings);
-        return SettingsDTO.fromEntity(saved);
+        referenceDataCache.evictSettings();
+
+        SettingsSnapshot updated = SettingsSnapshot.of(saved);
+        publishAfterCommit(updated);
+        return updated.settings();
+    }
+
+    // Write-through: readers only see the new settings once they are committed
+    private void publishAfterCommit(SettingsSnapshot updated) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot.set(updated);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot.set(updated);
+                log.debug("Settings snapshot updated");
+            }
+        });
     }
 
     private Settings createDefaultSettings() {
@@ -1,14 +1,17 @@
 package ro.atm.backend.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import ro.atm.backend.common.security.TokenRevocationService;
 import ro.atm.backend.domain.user.dto.ChangePasswordRequest;
 import ro.atm.backend.domain.user.dto.UpdateUserRequest;
 import ro.atm.backend.domain.user.dto.UserDTO;
+import ro.atm.backend.domain.user.event.UserAccountChangedEvent;
 import ro.atm.backend.domain.auth.entity.User;
 import ro.atm.backend.domain.user.repository.UserRepository;
 import ro.atm.backend.domain.auth.dto.TotpSetupResponse;
@@ -25,6 +28,8 @@ public class UserController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TotpService totpService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TokenRevocationService tokenRevocationService;
 
     @GetMapping("/me")
     public ResponseEntity<UserDTO> getCurrentUser(Authentication authentication) {
@@ -65,6 +70,7 @@ public class UserController {
                     user.setPhoneNumber(request.getPhoneNumber());
 
                     User updated = userRepository.save(user);
+                    eventPublisher.publishEvent(new UserAccountChangedEvent(updated.getId(), updated.getUsername()));
                     return ResponseEntity.ok((Object) UserDTO.fromEntity(updated));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -90,6 +96,7 @@ public class UserController {
                     user.setPassword(passwordEncoder.encode(request.getNewPassword()));
                     user.setPasswordTemporary(false);
                     userRepository.save(user);
+                    eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
 
                     response.put("message", "Password changed successfully");
                     return ResponseEntity.ok(response);
@@ -123,6 +130,7 @@ public class UserController {
                     user.setPassword(passwordEncoder.encode(newPassword));
                     user.setPasswordTemporary(false);
                     userRepository.save(user);
+                    eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
 
                     response.put("message", "Password changed successfully");
                     return ResponseEntity.ok(response);
@@ -148,6 +156,8 @@ public class UserController {
                     }
 
                     userRepository.delete(user);
+                    tokenRevocationService.revoke(user.getUsername());
+                    eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId(), user.getUsername()));
                     response.put("message", "Account deleted successfully");
                     return ResponseEntity.ok(response);
                 })
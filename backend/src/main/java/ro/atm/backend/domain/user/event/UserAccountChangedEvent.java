@@ -0,0 +1,16 @@
+package ro.atm.backend.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever a user account is created, deleted or has its profile, password, roles or enabled flag changed.
+ * Listeners use it to drop cached views of the account.
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountChangedEvent {
+
+    private final Long userId;
+    private final String username;
+}
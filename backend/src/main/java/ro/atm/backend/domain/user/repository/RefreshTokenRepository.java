@@ -0,0 +1,27 @@
+package ro.atm.backend.domain.user.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ro.atm.backend.domain.auth.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // Conditional update, so of two concurrent exchanges of the same token only one succeeds
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken t SET t.usedAt = :now WHERE t.tokenId = :tokenId AND t.usedAt IS NULL")
+    int markUsed(@Param("tokenId") String tokenId, @Param("now") LocalDateTime now);
+
+    // Range delete on idx_refresh_tokens_expires_at
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,25 @@
+package ro.atm.backend.domain.user.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ro.atm.backend.domain.auth.entity.TokenRevocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+
+    @Query("SELECT r.username FROM TokenRevocation r")
+    List<String> findAllUsernames();
+
+    // Range delete on idx_token_revocations_revoked_at
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TokenRevocation r WHERE r.revokedAt < :cutoff")
+    int deleteRevokedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,12 @@
 package ro.atm.backend.domain.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ro.atm.backend.domain.auth.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +16,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     Optional<User> findByVerificationToken(String token);
     Optional<User> findByResetPasswordToken(String token);
+    boolean existsByUsername(String username);
+
+    // All users holding a role, with their full role set loaded in the same query
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles " +
+            "WHERE u.id IN (SELECT ru.id FROM User ru JOIN ru.roles r WHERE r.name = :roleName) " +
+            "ORDER BY u.id")
+    List<User> findByRoleName(@Param("roleName") String roleName);
 }
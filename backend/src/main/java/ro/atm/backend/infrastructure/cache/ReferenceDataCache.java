@@ -0,0 +1,59 @@
+package ro.atm.backend.infrastructure.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.entity.ActivityTimeSlot;
+import ro.atm.backend.domain.activity.event.ActivityCatalogChangedEvent;
+import ro.atm.backend.domain.settings.entity.Settings;
+
+/**
+ * Explicit eviction of the Hibernate second-level cache regions holding reference data
+ * (categories, time slots, settings).
+ * Writes made through the session already update these regions; the evictions here also cover
+ * changes Hibernate cannot see (bulk or native statements, manual database edits) and drop the cached
+ * query results that depend on them. Other instances catch up when their entries expire.
+ * Roles are cached too but only written through the session by DataInitializer, so they need no eviction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ActivityCatalogChangedEvent event) {
+        if (event.getActivityId() == null) {
+            evictCategories();
+        } else {
+            evictTimeSlots();
+        }
+    }
+
+    public void evictCategories() {
+        evict(ActivityCategory.class);
+    }
+
+    public void evictTimeSlots() {
+        evict(ActivityTimeSlot.class);
+    }
+
+    public void evictSettings() {
+        evict(Settings.class);
+    }
+
+    private void evict(Class<?> entityClass) {
+        entityManagerFactory.getCache().evict(entityClass);
+        evictQueryResults();
+        log.debug("Second-level cache evicted for {}", entityClass.getSimpleName());
+    }
+
+    private void evictQueryResults() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -6,14 +6,19 @@ import com.resend.services.emails.model.CreateEmailOptions;
 import com.resend.services.emails.model.CreateEmailResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import ro.atm.backend.infrastructure.notification.NotificationOutboxService;
 
+/**
+ * Builds the application's emails and queues them in the notification outbox, in the caller's transaction.
+ * NotificationDispatcher sends them through Resend via {@link #deliver}.
+ */
 @Service
 @Slf4j
 public class EmailService {
 
     private final Resend resend;
+    private final NotificationOutboxService outboxService;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -21,28 +26,15 @@ public class EmailService {
     @Value("${frontend.url}")
     private String frontendUrl;
 
-    public EmailService(@Value("${resend.api.key}") String apiKey) {
+    public EmailService(@Value("${resend.api.key}") String apiKey, NotificationOutboxService outboxService) {
         this.resend = new Resend(apiKey);
+        this.outboxService = outboxService;
     }
 
-    @Async
     public void sendSimpleMessage(String to, String subject, String text) {
-        try {
-            CreateEmailOptions params = CreateEmailOptions.builder()
-                    .from(fromEmail)
-                    .to(to)
-                    .subject(subject)
-                    .text(text)
-                    .build();
-
-            CreateEmailResponse data = resend.emails().send(params);
-            log.info("📧 Email trimis către {} - ID: {}", to, data.getId());
-        } catch (ResendException e) {
-            log.error("❌ Eroare la trimiterea emailului către {}: {}", to, e.getMessage());
-        }
+        outboxService.enqueueEmail(to, subject, text, false, "simple message");
     }
 
-    @Async
     public void sendAccountVerificationEmail(String to, String name, String token) {
         String verificationLink = frontendUrl + "/verify?token=" + token;
         String subject = "Verifică-ți contul Dorna Adventure";
@@ -60,10 +52,9 @@ public class EmailService {
             </div>
             """, name, verificationLink, verificationLink);
 
-        sendHtmlMessage(to, subject, htmlBody);
+        outboxService.enqueueEmail(to, subject, htmlBody, true, "account verification");
     }
 
-    @Async
     public void sendEmployeeAccountCreatedEmail(String to, String name, String username, String temporaryPassword, String token) {
         String verificationLink = frontendUrl + "/verify?token=" + token;
         String subject = "Contul tău de angajat Dorna Adventure";
@@ -87,28 +78,31 @@ public class EmailService {
             </div>
             """, name, username, temporaryPassword, verificationLink, verificationLink);
 
-        sendHtmlMessage(to, subject, htmlBody);
+        outboxService.enqueueEmail(to, subject, htmlBody, true, "employee account");
     }
 
-    @Async
     public void sendHtmlMessage(String to, String subject, String htmlBody) {
-        try {
-            CreateEmailOptions params = CreateEmailOptions.builder()
-                    .from(fromEmail)
-                    .to(to)
-                    .subject(subject)
-                    .html(htmlBody)
-                    .build();
-
-            CreateEmailResponse data = resend.emails().send(params);
-            log.info("📧 Email HTML trimis către {} - ID: {}", to, data.getId());
-        } catch (ResendException e) {
-            log.error("Eroare la trimiterea emailului HTML către {}. Subiect: {}. Eroare: {}", to, subject, e.getMessage());
-            log.warn("CONȚINUT EMAIL (netrimis din cauza erorii):\nCătre: {}\nSubiect: {}\nCorp: {}", to, subject, htmlBody);
+        outboxService.enqueueEmail(to, subject, htmlBody, true, "html message");
+    }
+
+    /**
+     * Send an email right away; throws when Resend rejects it so the outbox can retry
+     */
+    public void deliver(String to, String subject, String body, boolean html) throws ResendException {
+        CreateEmailOptions.Builder params = CreateEmailOptions.builder()
+                .from(fromEmail)
+                .to(to)
+                .subject(subject);
+        if (html) {
+            params.html(body);
+        } else {
+            params.text(body);
         }
+
+        CreateEmailResponse data = resend.emails().send(params.build());
+        log.info("📧 Email trimis către {} - ID: {}", to, data.getId());
     }
 
-    @Async
     public void sendPasswordResetEmail(String to, String name, String token) {
         String verificationLink = frontendUrl + "/verify?token=" + token;
         String subject = "Resetează-ți Parola - Dorna Adventure";
@@ -126,10 +120,9 @@ public class EmailService {
                 "</body>" +
                 "</html>";
 
-        sendHtmlMessage(to, subject, htmlBody);
+        outboxService.enqueueEmail(to, subject, htmlBody, true, "password reset");
     }
 
-    @Async
     public void sendPaymentConfirmation(String to, String userName, String amount, String bookingId) {
         String subject = "Confirmare Plată - Rezervare #" + bookingId;
         String htmlBody = String.format("""
@@ -143,6 +136,6 @@ public class EmailService {
             </div>
             """, userName, amount, bookingId);
 
-        sendHtmlMessage(to, subject, htmlBody);
+        outboxService.enqueueEmail(to, subject, htmlBody, true, "payment confirmation");
     }
 }
\ No newline at end of file
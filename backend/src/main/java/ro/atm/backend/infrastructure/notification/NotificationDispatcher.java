@@ -0,0 +1,263 @@
+package ro.atm.backend.infrastructure.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.atm.backend.infrastructure.email.EmailService;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+import ro.atm.backend.infrastructure.sms.SmsService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers the notification outbox.
+ * <p>
+ * Due messages are claimed in batches with SELECT ... FOR UPDATE SKIP LOCKED, so several instances can drain the
+ * outbox side by side without sending a message twice. Claiming counts an attempt and pushes next_attempt_at past
+ * a lease; the provider is then called outside any transaction, at most "concurrency" calls at a time per channel.
+ * A failed message is retried with exponential backoff and jitter and given up on after max-attempts. If an
+ * instance dies mid-send the lease runs out and the message is picked up again, so delivery is at least once.
+ * The body is dropped once a message is sent, as it may carry verification tokens or temporary passwords.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EmailService emailService;
+    private final SmsService smsService;
+    private final ClusterJobExecutor jobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long claimTimeoutSeconds;
+    private final int retentionDays;
+
+    private final Map<NotificationOutbox.Channel, ThreadPoolExecutor> senders = new EnumMap<>(NotificationOutbox.Channel.class);
+    private final Map<NotificationOutbox.Channel, Counter> sentCounters = new EnumMap<>(NotificationOutbox.Channel.class);
+    private final Map<NotificationOutbox.Channel, Counter> failedCounters = new EnumMap<>(NotificationOutbox.Channel.class);
+    private final Map<NotificationOutbox.Channel, Counter> deadCounters = new EnumMap<>(NotificationOutbox.Channel.class);
+
+    // Runs drains requested by enqueue events and the poll; a single pending request is enough to cover any number of them
+    private final ThreadPoolExecutor wakeUpExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  EmailService emailService,
+                                  SmsService smsService,
+                                  ClusterJobExecutor jobExecutor,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notifications.outbox.batch-size:50}") int batchSize,
+                                  @Value("${notifications.outbox.max-attempts:8}") int maxAttempts,
+                                  @Value("${notifications.outbox.backoff-seconds:30}") long backoffSeconds,
+                                  @Value("${notifications.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                  @Value("${notifications.outbox.claim-timeout-seconds:300}") long claimTimeoutSeconds,
+                                  @Value("${notifications.outbox.retention-days:7}") int retentionDays,
+                                  @Value("${notifications.outbox.email.concurrency:4}") int emailConcurrency,
+                                  @Value("${notifications.outbox.sms.concurrency:2}") int smsConcurrency) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.smsService = smsService;
+        this.jobExecutor = jobExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(1, backoffSeconds) * 1000L;
+        this.maxBackoffMillis = Math.max(backoffSeconds, maxBackoffSeconds) * 1000L;
+        this.claimTimeoutSeconds = claimTimeoutSeconds;
+        this.retentionDays = retentionDays;
+
+        senders.put(NotificationOutbox.Channel.EMAIL, newPool("notification-email", emailConcurrency, this.batchSize));
+        senders.put(NotificationOutbox.Channel.SMS, newPool("notification-sms", smsConcurrency, this.batchSize));
+        this.wakeUpExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                daemonThreads("notification-dispatcher"), new ThreadPoolExecutor.DiscardPolicy());
+
+        for (NotificationOutbox.Channel channel : NotificationOutbox.Channel.values()) {
+            String tag = channel.name().toLowerCase(Locale.ROOT);
+            sentCounters.put(channel, Counter.builder("notifications.outbox.sent")
+                    .description("Notifications delivered to the provider")
+                    .tag("channel", tag)
+                    .register(meterRegistry));
+            failedCounters.put(channel, Counter.builder("notifications.outbox.failed")
+                    .description("Notification deliveries that failed and were rescheduled")
+                    .tag("channel", tag)
+                    .register(meterRegistry));
+            deadCounters.put(channel, Counter.builder("notifications.outbox.dead")
+                    .description("Notifications given up on after the last attempt")
+                    .tag("channel", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationEnqueued(NotificationEnqueuedEvent event) {
+        wakeUpExecutor.execute(this::drain);
+    }
+
+    /**
+     * Pick up retries and messages enqueued by other instances
+     * Only hands the drain to the dispatcher thread, so slow providers never hold up the shared scheduler
+     */
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUpExecutor.execute(this::drain);
+    }
+
+    /**
+     * Deliver every due message, one batch per channel at a time so a backlog on one channel does not hold up the other
+     */
+    public void drain() {
+        drainRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            // The running drain picks the request up when it is done
+            return;
+        }
+        try {
+            while (drainRequested.getAndSet(false)) {
+                boolean more = true;
+                while (more) {
+                    more = false;
+                    for (NotificationOutbox.Channel channel : NotificationOutbox.Channel.values()) {
+                        more |= drainBatch(channel) == batchSize;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification outbox drain failed: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        jobExecutor.runExclusively("notification-outbox-purge", Duration.ofMinutes(5),
+                () -> outboxRepository.deleteFinishedBefore(NotificationOutbox.Status.PENDING,
+                        LocalDateTime.now().minusDays(retentionDays)));
+    }
+
+    private int drainBatch(NotificationOutbox.Channel channel) {
+        List<NotificationOutbox> batch = claim(channel);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        ThreadPoolExecutor sender = senders.get(channel);
+        CompletableFuture<?>[] deliveries = batch.stream()
+                .map(message -> CompletableFuture.runAsync(() -> deliver(message), sender))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(deliveries).join();
+        return batch.size();
+    }
+
+    private List<NotificationOutbox> claim(NotificationOutbox.Channel channel) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> due = outboxRepository.lockDue(channel.name(), now, batchSize);
+            for (NotificationOutbox message : due) {
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plusSeconds(claimTimeoutSeconds));
+            }
+            return outboxRepository.saveAll(due);
+        });
+    }
+
+    void deliver(NotificationOutbox message) {
+        try {
+            switch (message.getChannel()) {
+                case EMAIL -> emailService.deliver(message.getRecipient(), message.getSubject(), message.getBody(), message.isHtml());
+                case SMS -> smsService.deliver(message.getRecipient(), message.getBody());
+            }
+        } catch (Exception e) {
+            markFailed(message, e);
+            return;
+        }
+        markSent(message);
+    }
+
+    private void markSent(NotificationOutbox message) {
+        message.setStatus(NotificationOutbox.Status.SENT);
+        message.setSentAt(LocalDateTime.now());
+        message.setBody(null);
+        message.setLastError(null);
+        outboxRepository.save(message);
+        sentCounters.get(message.getChannel()).increment();
+    }
+
+    private void markFailed(NotificationOutbox message, Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        message.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (message.getAttempts() >= maxAttempts) {
+            message.setStatus(NotificationOutbox.Status.DEAD);
+            message.setBody(null);
+            outboxRepository.save(message);
+            deadCounters.get(message.getChannel()).increment();
+            log.error("Giving up on {} {} #{} to {} after {} attempts: {}", message.getChannel(), message.getMessageType(),
+                    message.getId(), message.getRecipient(), message.getAttempts(), error);
+            return;
+        }
+
+        long delay = backoffMillis(message.getAttempts());
+        message.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delay)));
+        outboxRepository.save(message);
+        failedCounters.get(message.getChannel()).increment();
+        log.warn("Failed to send {} {} #{} to {} (attempt {}), retrying in {}s: {}", message.getChannel(),
+                message.getMessageType(), message.getId(), message.getRecipient(), message.getAttempts(), delay / 1000, error);
+    }
+
+    // base * 2^(attempts - 1), capped, minus up to a quarter of jitter so retries of a burst spread out
+    long backoffMillis(int attempts) {
+        long delay = backoffMillis << Math.min(Math.max(0, attempts - 1), 20);
+        delay = Math.min(delay, maxBackoffMillis);
+        return delay - ThreadLocalRandom.current().nextLong(delay / 4 + 1);
+    }
+
+    private static ThreadPoolExecutor newPool(String name, int concurrency, int queueCapacity) {
+        int poolSize = Math.max(1, concurrency);
+        // A batch never exceeds the queue, so nothing is rejected
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(name), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+        senders.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+}
@@ -0,0 +1,15 @@
+package ro.atm.backend.infrastructure.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published whenever a notification is added to the outbox.
+ * The dispatcher uses it to deliver right after the commit instead of waiting for its next poll.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationEnqueuedEvent {
+
+    private final NotificationOutbox.Channel channel;
+}
@@ -0,0 +1,33 @@
+package ro.atm.backend.infrastructure.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // Served by idx_notification_outbox_due; rows locked by another dispatcher are skipped, not waited for
+    @Query(value = "SELECT * FROM notification_outbox " +
+            "WHERE status = 'PENDING' AND channel = :channel AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<NotificationOutbox> lockDue(@Param("channel") String channel,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("limit") int limit);
+
+    // Delivered and dead messages are kept for a while for troubleshooting, then removed
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM NotificationOutbox n WHERE n.status <> :pending AND n.createdAt < :cutoff")
+    int deleteFinishedBefore(@Param("pending") NotificationOutbox.Status pending,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,49 @@
+package ro.atm.backend.infrastructure.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adds notifications to the outbox. Joins the caller's transaction, so a message exists exactly when the change
+ * that triggered it was committed; delivery happens later on NotificationDispatcher.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void enqueueEmail(String to, String subject, String body, boolean html, String messageType) {
+        enqueue(NotificationOutbox.Channel.EMAIL, to, subject, body, html, messageType);
+    }
+
+    @Transactional
+    public void enqueueSms(String to, String body, String messageType) {
+        enqueue(NotificationOutbox.Channel.SMS, to, null, body, false, messageType);
+    }
+
+    private void enqueue(NotificationOutbox.Channel channel, String to, String subject, String body, boolean html,
+                         String messageType) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(NotificationOutbox.builder()
+                .channel(channel)
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .messageType(messageType)
+                .status(NotificationOutbox.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+
+        eventPublisher.publishEvent(new NotificationEnqueuedEvent(channel));
+    }
+}
@@ -0,0 +1,32 @@
+package ro.atm.backend.infrastructure.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hit count of one rate limit key in one fixed window, shared by every backend instance.
+ * The bucket is the key suffixed with the window number; a row is kept until the end of the following
+ * window, where it serves as the previous window of the sliding estimate.
+ */
+@Entity
+@Table(name = "rate_limit_counters", indexes = {
+        @Index(name = "idx_rate_limit_counters_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitCounter {
+
+    @Id
+    @Column(name = "bucket", length = 300)
+    private String bucket;
+
+    @Column(name = "hits", nullable = false)
+    private int hits;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
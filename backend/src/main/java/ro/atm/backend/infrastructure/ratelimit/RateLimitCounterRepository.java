@@ -0,0 +1,31 @@
+package ro.atm.backend.infrastructure.ratelimit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RateLimitCounterRepository extends JpaRepository<RateLimitCounter, String> {
+
+    // Atomic increment; concurrent hits on the same bucket serialize on its row only
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO rate_limit_counters (bucket, hits, expires_at) VALUES (:bucket, 1, :expiresAt) " +
+            "ON CONFLICT (bucket) DO UPDATE SET hits = rate_limit_counters.hits + 1",
+            nativeQuery = true)
+    int increment(@Param("bucket") String bucket, @Param("expiresAt") LocalDateTime expiresAt);
+
+    List<RateLimitCounter> findByBucketIn(List<String> buckets);
+
+    // Range delete on idx_rate_limit_counters_expires_at
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RateLimitCounter c WHERE c.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,170 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a scheduled job on at most one backend instance at a time.
+ * <p>
+ * Each job holds a lease row in job_locks. The lease is renewed in the background while the job runs, so a
+ * long run keeps it and a crashed instance loses it after one lease period. On completion the lease is kept
+ * until lockAtLeast after the start, so instances whose schedules fire a little later skip the same run.
+ * Every execution is recorded in job_runs.
+ */
+@Component
+@Slf4j
+public class ClusterJobExecutor {
+
+    /**
+     * A unit of scheduled work; returns the number of items it processed
+     */
+    @FunctionalInterface
+    public interface Job {
+        int run();
+    }
+
+    private final JobLockRepository jobLockRepository;
+    private final JobRunRepository jobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService leaseRenewer;
+    private final String instanceId;
+    private final long leaseMillis;
+    private final int historyRetentionDays;
+
+    public ClusterJobExecutor(JobLockRepository jobLockRepository,
+                              JobRunRepository jobRunRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${scheduling.cluster.lease-seconds:60}") long leaseSeconds,
+                              @Value("${scheduling.cluster.history-retention-days:14}") int historyRetentionDays) {
+        this.jobLockRepository = jobLockRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseMillis = Duration.ofSeconds(Math.max(5, leaseSeconds)).toMillis();
+        this.historyRetentionDays = historyRetentionDays;
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "job-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run the job if no other instance holds its lease
+     *
+     * @return true if the job ran on this instance
+     */
+    public boolean runExclusively(String jobName, Duration lockAtLeast, Job job) {
+        if (!tryAcquire(jobName)) {
+            log.debug("Job {} is running on another instance, skipping", jobName);
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        Long runId = transactionTemplate.execute(status -> jobRunRepository.save(JobRun.builder()
+                .jobName(jobName)
+                .instanceId(instanceId)
+                .startedAt(startedAt)
+                .status(JobRun.RunStatus.RUNNING)
+                .build()).getId());
+
+        // Renew at a third of the lease so one missed renewal does not lose it
+        long renewEvery = leaseMillis / 3;
+        ScheduledFuture<?> renewal = leaseRenewer.scheduleAtFixedRate(
+                () -> renew(jobName), renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+
+        try {
+            int processed = job.run();
+            finishRun(runId, startNanos, JobRun.RunStatus.SUCCEEDED, processed, null);
+        } catch (RuntimeException e) {
+            log.error("Job {} failed: {}", jobName, e.getMessage(), e);
+            finishRun(runId, startNanos, JobRun.RunStatus.FAILED, null, e.getMessage());
+        } finally {
+            renewal.cancel(false);
+            release(jobName, lockAtLeast);
+        }
+        return true;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Drop run history older than the retention period (once a day, on one instance)
+     */
+    @Scheduled(cron = "${scheduling.cluster.history-purge-cron:0 30 3 * * *}")
+    public void purgeRunHistory() {
+        runExclusively("job-run-history-purge", Duration.ofMinutes(10), () ->
+                transactionTemplate.execute(status -> jobRunRepository.deleteStartedBefore(
+                        LocalDateTime.now().minusDays(historyRetentionDays))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private boolean tryAcquire(String jobName) {
+        try {
+            Integer acquired = transactionTemplate.execute(status ->
+                    jobLockRepository.tryAcquire(jobName, instanceId, leaseMillis));
+            return acquired != null && acquired > 0;
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire lock for job {}: {}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void renew(String jobName) {
+        try {
+            Integer renewed = transactionTemplate.execute(status ->
+                    jobLockRepository.renew(jobName, instanceId, leaseMillis));
+            if (renewed == null || renewed == 0) {
+                log.warn("Lease of job {} was lost by {}", jobName, instanceId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew lease of job {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void release(String jobName, Duration lockAtLeast) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLockRepository.release(jobName, instanceId, lockAtLeast.toMillis()));
+        } catch (RuntimeException e) {
+            // The lease simply runs out
+            log.warn("Could not release lock of job {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void finishRun(Long runId, long startNanos, JobRun.RunStatus status, Integer processed, String error) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> jobRunRepository.findById(runId).ifPresent(run -> {
+                run.setFinishedAt(LocalDateTime.now());
+                run.setDurationMs(durationMs);
+                run.setStatus(status);
+                run.setItemsProcessed(processed);
+                run.setErrorMessage(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not record run {} of job: {}", runId, e.getMessage());
+        }
+    }
+}
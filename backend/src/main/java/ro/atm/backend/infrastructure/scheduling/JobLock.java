@@ -0,0 +1,33 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease on a scheduled job, shared by every backend instance through the database.
+ * The instance named in lockedBy may run the job until lockedUntil.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -0,0 +1,38 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lease operations on job_locks. Times come from the database clock so instances with skewed clocks agree.
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // Takes the lease if the job has never run, the previous lease expired, or this instance already holds it
+    @Modifying
+    @Query(value = "INSERT INTO job_locks (name, locked_by, locked_at, locked_until) " +
+            "VALUES (:name, :owner, LOCALTIMESTAMP, LOCALTIMESTAMP + CAST(:leaseMillis AS bigint) * INTERVAL '1 millisecond') " +
+            "ON CONFLICT (name) DO UPDATE SET locked_by = EXCLUDED.locked_by, " +
+            "locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until " +
+            "WHERE job_locks.locked_until <= LOCALTIMESTAMP OR job_locks.locked_by = :owner",
+            nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_until = LOCALTIMESTAMP + CAST(:leaseMillis AS bigint) * INTERVAL '1 millisecond' " +
+            "WHERE name = :name AND locked_by = :owner",
+            nativeQuery = true)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+    // Keeps the lease until at least lockedAt + minimum so fast runs are not repeated by another instance right away
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_until = " +
+            "GREATEST(LOCALTIMESTAMP, locked_at + CAST(:minimumMillis AS bigint) * INTERVAL '1 millisecond') " +
+            "WHERE name = :name AND locked_by = :owner",
+            nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("minimumMillis") long minimumMillis);
+}
@@ -0,0 +1,55 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * History entry of one execution of a cluster-wide scheduled job
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+        @Index(name = "idx_job_runs_job_started", columnList = "job_name, started_at"),
+        @Index(name = "idx_job_runs_started", columnList = "started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRun {
+
+    public enum RunStatus {
+        RUNNING, SUCCEEDED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String instanceId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column
+    private LocalDateTime finishedAt;
+
+    @Column
+    private Long durationMs;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column
+    private Integer itemsProcessed;
+
+    @Column(length = 1000)
+    private String errorMessage;
+}
@@ -0,0 +1,17 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    @Modifying
+    @Query("DELETE FROM JobRun r WHERE r.startedAt < :cutoff")
+    int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,17 +2,25 @@ package ro.atm.backend.infrastructure.sms;
 
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import ro.atm.backend.infrastructure.notification.NotificationOutboxService;
 
 import java.math.BigDecimal;
 
+/**
+ * Builds the application's SMS messages and queues them in the notification outbox, in the caller's transaction.
+ * NotificationDispatcher sends them through Twilio via {@link #deliver}.
+ */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class SmsService {
 
+    private final NotificationOutboxService outboxService;
+
     @Value("${twilio.phone-number:}")
     private String fromPhoneNumber;
 
@@ -22,7 +30,6 @@ public class SmsService {
     /**
      * Send payment link SMS to guest after booking creation
      */
-    @Async
     public void sendPaymentLink(String toPhoneNumber, Long bookingId,
                                 String customerName, BigDecimal depositAmount) {
         // Validate Twilio is configured
@@ -43,7 +50,6 @@ public class SmsService {
     /**
      * Send booking confirmation SMS after successful payment
      */
-    @Async
     public void sendBookingConfirmation(String toPhoneNumber, Long bookingId,
                                        String activityName, String bookingDate) {
         if (!isTwilioConfigured()) {
@@ -62,7 +68,6 @@ public class SmsService {
     /**
      * Send verification code SMS for registration (future feature)
      */
-    @Async
     public void sendRegistrationCode(String toPhoneNumber, String verificationCode) {
         if (!isTwilioConfigured()) {
             log.warn("⚠️  Twilio not configured, skipping verification code SMS to {}", toPhoneNumber);
@@ -78,20 +83,27 @@ public class SmsService {
     }
 
     /**
-     * Generic method to send SMS using Twilio
+     * Queue an SMS in the outbox
      */
     private void sendSms(String toPhoneNumber, String messageBody, String messageType) {
-        try {
-            Message sms = Message.creator(
-                new PhoneNumber(toPhoneNumber),
-                new PhoneNumber(fromPhoneNumber),
-                messageBody
-            ).create();
-
-            log.info("📱 SMS {} sent to {} (SID: {})", messageType, toPhoneNumber, sms.getSid());
-        } catch (Exception e) {
-            log.error("❌ Failed to send {} SMS to {}: {}", messageType, toPhoneNumber, e.getMessage(), e);
+        outboxService.enqueueSms(toPhoneNumber, messageBody, messageType);
+    }
+
+    /**
+     * Send an SMS right away using Twilio; throws on failure so the outbox can retry
+     */
+    public void deliver(String toPhoneNumber, String messageBody) {
+        if (!isTwilioConfigured()) {
+            throw new IllegalStateException("Twilio is not configured");
         }
+
+        Message sms = Message.creator(
+            new PhoneNumber(toPhoneNumber),
+            new PhoneNumber(fromPhoneNumber),
+            messageBody
+        ).create();
+
+        log.info("📱 SMS sent to {} (SID: {})", toPhoneNumber, sms.getSid());
     }
 
     /**
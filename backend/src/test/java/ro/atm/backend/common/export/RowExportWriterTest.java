@@ -0,0 +1,74 @@
+package ro.atm.backend.common.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RowExportWriter.
+ */
+@DisplayName("RowExportWriter Tests")
+class RowExportWriterTest {
+
+    private record Row(Long id, String name, BigDecimal amount, LocalDate date) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            ExportColumn.of("id", Row::id),
+            ExportColumn.of("name", Row::name),
+            ExportColumn.of("amount", Row::amount),
+            ExportColumn.of("date", Row::date)
+    );
+
+    @Test
+    @DisplayName("Should quote CSV values containing separators and neutralize formulas")
+    void testCsvEscaping() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (RowExportWriter<Row> writer = new RowExportWriter<>(out, ExportFormat.CSV, COLUMNS, false)) {
+            writer.write(new Row(1L, "Doe, \"Johnny\"", new BigDecimal("1E+2"), LocalDate.of(2025, 7, 1)));
+            writer.write(new Row(2L, "=HYPERLINK(\"x\")", null, null));
+        }
+
+        // Then
+        assertEquals("id,name,amount,date\r\n" +
+                        "1,\"Doe, \"\"Johnny\"\"\",100,2025-07-01\r\n" +
+                        "2,\"'=HYPERLINK(\"\"x\"\")\",,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line, gzip-compressed on request")
+    void testGzippedNdjson() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (RowExportWriter<Row> writer = new RowExportWriter<>(out, ExportFormat.NDJSON, COLUMNS, true)) {
+            writer.write(new Row(1L, "a\nb", new BigDecimal("12.50"), LocalDate.of(2025, 7, 1)));
+            writer.write(new Row(2L, null, null, null));
+            assertEquals(2, writer.getRowCount());
+        }
+
+        // Then
+        String content;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertEquals("{\"id\":1,\"name\":\"a\\nb\",\"amount\":12.50,\"date\":\"2025-07-01\"}\n" +
+                        "{\"id\":2,\"name\":null,\"amount\":null,\"date\":null}\n",
+                content);
+    }
+}
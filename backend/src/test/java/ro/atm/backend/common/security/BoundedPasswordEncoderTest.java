@@ -0,0 +1,91 @@
+package ro.atm.backend.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ro.atm.backend.common.exception.ServiceBusyException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordEncoder and the hashing pool.
+ */
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (hashingExecutor != null) {
+            hashingExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify legacy unprefixed bcrypt hashes and flag them for rehashing")
+    void testLegacyHash_MatchesAndNeedsUpgrade() {
+        // Given
+        PasswordEncoder encoder = encoder("bcrypt", 4, 2);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        // When & Then
+        assertTrue(encoder.matches("secret", legacyHash));
+        assertFalse(encoder.matches("wrong", legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+    }
+
+    @Test
+    @DisplayName("Should rehash when the algorithm or the cost changes")
+    void testUpgradeOnParameterChange() {
+        // Given
+        PasswordEncoder current = encoder("bcrypt", 5, 2);
+        String weakerHash = encoder("bcrypt", 4, 2).encode("secret");
+        String argon2Hash = encoder("argon2", 4, 2).encode("secret");
+
+        // When & Then
+        assertTrue(current.upgradeEncoding(weakerHash));
+        assertTrue(current.matches("secret", argon2Hash));
+        assertTrue(current.upgradeEncoding(argon2Hash));
+        assertFalse(current.upgradeEncoding(current.encode("secret")));
+    }
+
+    @Test
+    @DisplayName("Should reject hashing with a 503 once the pool and its queue are full")
+    void testSaturatedPool_Rejects() throws Exception {
+        // Given
+        hashingExecutor = new PasswordHashingExecutor(1, 0, 5_000, new SimpleMeterRegistry());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocker = CompletableFuture.supplyAsync(() -> hashingExecutor.execute(() -> {
+            running.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(ServiceBusyException.class, () -> hashingExecutor.execute(() -> "hash"));
+        release.countDown();
+        assertEquals(Boolean.TRUE, blocker.get(5, TimeUnit.SECONDS));
+    }
+
+    private PasswordEncoder encoder(String algorithm, int bcryptStrength, int argon2Iterations) {
+        if (hashingExecutor == null) {
+            hashingExecutor = new PasswordHashingExecutor(2, 16, 5_000, new SimpleMeterRegistry());
+        }
+        return new BoundedPasswordEncoder(
+                BoundedPasswordEncoder.delegating(algorithm, bcryptStrength, 1024, argon2Iterations, 1),
+                hashingExecutor);
+    }
+}
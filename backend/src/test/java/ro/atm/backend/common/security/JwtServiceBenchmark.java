@@ -0,0 +1,69 @@
+package ro.atm.backend.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput of token issuing and verification.
+ * Not part of the test run; start it with main() from the IDE or
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=ro.atm.backend.common.security.JwtServiceBenchmark}.
+ * Add {@code -prof gc} to the options to check allocations per verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("b".repeat(64).getBytes());
+        String previous = Base64.getEncoder().encodeToString("a".repeat(64).getBytes());
+        jwtService = new JwtService(secret, List.of(previous), 3_600_000, 86_400_000);
+
+        user = new User("guide", "secret", "guide@example.com", "First", "Last", "+40700000000");
+        user.setRoles(new HashSet<>(Set.of(new Role("ROLE_EMPLOYEE"), new Role("ROLE_USER"))));
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtService.isTokenValid(jwtService.parseToken(token), user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
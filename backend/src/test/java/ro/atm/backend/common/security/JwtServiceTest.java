@@ -0,0 +1,94 @@
+package ro.atm.backend.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtService key handling and rotation.
+ */
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String OLD_SECRET = secret('a');
+    private static final String NEW_SECRET = secret('b');
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("guide", "secret", "guide@example.com", "First", "Last", "+40700000000");
+        user.setRoles(new HashSet<>(Set.of(new Role("ROLE_EMPLOYEE"))));
+    }
+
+    @Test
+    @DisplayName("Should verify its own tokens and expose subject, roles and token id")
+    void testGenerateAndParse() {
+        // Given
+        JwtService jwtService = new JwtService(NEW_SECRET, List.of(), 60_000, 600_000);
+
+        // When
+        Claims claims = jwtService.parseToken(jwtService.generateToken(user));
+
+        // Then
+        assertEquals("guide", claims.getSubject());
+        assertEquals(List.of("ROLE_EMPLOYEE"), claims.get("roles", List.class));
+        assertNotNull(claims.getId());
+        assertTrue(jwtService.isTokenValid(claims, user));
+    }
+
+    @Test
+    @DisplayName("Should tell refresh tokens apart from access tokens")
+    void testRefreshToken_TypedAndRoleless() {
+        // Given
+        JwtService jwtService = new JwtService(NEW_SECRET, List.of(), 60_000, 600_000);
+
+        // When
+        Claims access = jwtService.parseToken(jwtService.generateToken(user));
+        Claims refresh = jwtService.parseToken(jwtService.generateRefreshToken(user, "token-1"));
+
+        // Then
+        assertFalse(jwtService.isRefreshToken(access));
+        assertTrue(jwtService.isRefreshToken(refresh));
+        assertEquals("token-1", refresh.getId());
+        assertTrue(jwtService.extractRoles(refresh).isEmpty());
+        assertTrue(refresh.getExpiration().after(access.getExpiration()));
+    }
+
+    @Test
+    @DisplayName("Should keep accepting tokens signed with a previous secret after rotation")
+    void testRotation_PreviousSecretStillVerifies() {
+        // Given
+        String oldToken = new JwtService(OLD_SECRET, List.of(), 60_000, 600_000).generateToken(user);
+        JwtService rotated = new JwtService(NEW_SECRET, List.of(OLD_SECRET), 60_000, 600_000);
+
+        // When & Then
+        assertEquals("guide", rotated.parseToken(oldToken).getSubject());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with a secret that is no longer configured")
+    void testRotation_RetiredSecretRejected() {
+        // Given
+        String oldToken = new JwtService(OLD_SECRET, List.of(), 60_000, 600_000).generateToken(user);
+        JwtService rotated = new JwtService(NEW_SECRET, List.of(), 60_000, 600_000);
+
+        // When & Then
+        assertThrows(UnsupportedJwtException.class, () -> rotated.parseToken(oldToken));
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(64).getBytes());
+    }
+}
@@ -0,0 +1,97 @@
+package ro.atm.backend.common.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ro.atm.backend.common.exception.TooManyRequestsException;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory sliding window of LoginRateLimiter.
+ */
+@DisplayName("LoginRateLimiter Tests")
+class LoginRateLimiterTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong(10 * WINDOW_MILLIS);
+    private LoginRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LoginRateLimiter(null, null, now::get, true, false, WINDOW_MILLIS / 1000, 1_000,
+                Map.of(LoginRateLimiter.Action.LOGIN, new LoginRateLimiter.Limits(3, 5),
+                        LoginRateLimiter.Action.PASSWORD_RESET, new LoginRateLimiter.Limits(1, 5)));
+    }
+
+    @Test
+    @DisplayName("Should reject a username once its limit is reached, whatever the IP")
+    void testPerUsernameLimit() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.check(LoginRateLimiter.Action.LOGIN, "Guide", "10.0.0." + i);
+        }
+
+        // When & Then
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, " guide ", "10.0.0.9"));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+        assertDoesNotThrow(() -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, "other", "10.0.0.9"));
+        assertDoesNotThrow(() -> rateLimiter.check(LoginRateLimiter.Action.PASSWORD_RESET, "guide", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Should reject an IP once its limit is reached, whatever the username")
+    void testPerIpLimit() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.check(LoginRateLimiter.Action.LOGIN, "user" + i, "10.0.0.1");
+        }
+
+        // When & Then
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, "fresh", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Should weigh the previous window down as the current one advances")
+    void testSlidingWindow() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0.1");
+        }
+
+        // When: a quarter into the next window the previous attempts still count as 2.25
+        now.addAndGet(WINDOW_MILLIS + WINDOW_MILLIS / 4);
+        rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0.1");
+
+        // Then
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0.1"));
+
+        // When: two windows later everything has aged out
+        now.addAndGet(2 * WINDOW_MILLIS);
+
+        // Then
+        assertDoesNotThrow(() -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("Should clear a username's attempts after a successful login")
+    void testReset() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0." + i);
+        }
+
+        // When
+        rateLimiter.reset(LoginRateLimiter.Action.LOGIN, "GUIDE");
+
+        // Then
+        assertDoesNotThrow(() -> rateLimiter.check(LoginRateLimiter.Action.LOGIN, "guide", "10.0.0.8"));
+    }
+}
@@ -0,0 +1,68 @@
+package ro.atm.backend.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH latency of a login password check for each hashing configuration, to pick the cost for our hardware:
+ * the latency of one check bounds the logins per second a core can serve (1000 / ms per check).
+ * Not part of the test run; start it with main() from the IDE or
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=ro.atm.backend.common.security.PasswordEncoderBenchmark}.
+ * Add {@code -t <threads>} to the options to see how throughput scales across cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    // algorithm:cost, where cost is the bcrypt strength or the argon2 memory in KB (2 iterations, 1 lane)
+    @Param({"bcrypt:10", "bcrypt:11", "bcrypt:12", "argon2:19456", "argon2:47104"})
+    private String configuration;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        String[] parts = configuration.split(":");
+        int cost = Integer.parseInt(parts[1]);
+        encoder = BoundedPasswordEncoder.BCRYPT.equals(parts[0])
+                ? BoundedPasswordEncoder.delegating(parts[0], cost, 19456, 2, 1)
+                : BoundedPasswordEncoder.delegating(parts[0], 10, cost, 2, 1);
+        hash = encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("correct horse battery staple", hash);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("correct horse battery staple");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PasswordEncoderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package ro.atm.backend.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ro.atm.backend.common.exception.InvalidCredentialsException;
+import ro.atm.backend.domain.auth.entity.RefreshToken;
+import ro.atm.backend.domain.user.repository.RefreshTokenRepository;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for single-use refresh tokens and reuse detection.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private ClusterJobExecutor jobExecutor;
+
+    private RefreshTokenService refreshTokenService;
+
+    private final Claims claims = Jwts.claims().id("token-1").subject("guide").build();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, tokenRevocationService, jwtService,
+                jobExecutor, 10);
+    }
+
+    @Test
+    @DisplayName("Should accept an unused refresh token once")
+    void testConsumeUnused() {
+        // Given
+        when(refreshTokenRepository.markUsed(eq("token-1"), any())).thenReturn(1);
+
+        // When & Then
+        assertDoesNotThrow(() -> refreshTokenService.consume(claims));
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("Should revoke every token of the user when a used refresh token comes back")
+    void testReuseRevokesUser() {
+        // Given
+        when(refreshTokenRepository.markUsed(eq("token-1"), any())).thenReturn(0);
+        when(refreshTokenRepository.findById("token-1"))
+                .thenReturn(Optional.of(token(LocalDateTime.now().minusMinutes(5))));
+
+        // When & Then
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.consume(claims));
+        verify(tokenRevocationService).revoke("guide");
+    }
+
+    @Test
+    @DisplayName("Should reject without revoking a token used moments ago by a concurrent refresh")
+    void testConcurrentRefreshWithinGrace() {
+        // Given
+        when(refreshTokenRepository.markUsed(eq("token-1"), any())).thenReturn(0);
+        when(refreshTokenRepository.findById("token-1"))
+                .thenReturn(Optional.of(token(LocalDateTime.now().minusSeconds(2))));
+
+        // When & Then
+        assertThrows(InvalidCredentialsException.class, () -> refreshTokenService.consume(claims));
+        verify(tokenRevocationService, never()).revoke(anyString());
+    }
+
+    private static RefreshToken token(LocalDateTime usedAt) {
+        return RefreshToken.builder()
+                .tokenId("token-1")
+                .username("guide")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .usedAt(usedAt)
+                .build();
+    }
+}
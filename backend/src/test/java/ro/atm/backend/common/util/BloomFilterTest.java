@@ -0,0 +1,61 @@
+package ro.atm.backend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter.
+ */
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should always report added values")
+    void testNoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("user-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives close to the configured rate")
+    void testFalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should report nothing when empty")
+    void testEmpty() {
+        // Given
+        BloomFilter filter = BloomFilter.create(0, 0.01);
+
+        // When & Then
+        assertFalse(filter.mightContain("guide"));
+    }
+}
@@ -0,0 +1,87 @@
+package ro.atm.backend.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntervalIndex.
+ */
+@DisplayName("IntervalIndex Tests")
+class IntervalIndexTest {
+
+    private record Slot(String name, LocalTime start, LocalTime end) {
+    }
+
+    private IntervalIndex<Slot> index;
+
+    @BeforeEach
+    void setUp() {
+        index = IntervalIndex.of(List.of(
+                new Slot("late", LocalTime.of(14, 0), LocalTime.of(16, 0)),
+                new Slot("morning", LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                new Slot("shared", LocalTime.of(10, 0), LocalTime.of(12, 0)),
+                new Slot("long", LocalTime.of(8, 0), LocalTime.of(17, 0))
+        ), Slot::start, Slot::end);
+    }
+
+    @Test
+    @DisplayName("Should list overlapping intervals ordered by start")
+    void testFindOverlapping() {
+        // When
+        List<Slot> overlapping = index.findOverlapping(LocalTime.of(10, 30), LocalTime.of(14, 30));
+
+        // Then
+        assertEquals(List.of("long", "morning", "shared", "late"),
+                overlapping.stream().map(Slot::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should treat intervals as half-open")
+    void testTouchingIntervalsDoNotOverlap() {
+        // When & Then
+        assertEquals(List.of("long"),
+                index.findOverlapping(LocalTime.of(12, 0), LocalTime.of(14, 0)).stream().map(Slot::name).toList());
+        assertEquals(1, index.countOverlapping(LocalTime.of(12, 0), LocalTime.of(14, 0)));
+        assertFalse(index.anyOverlapping(LocalTime.of(17, 0), LocalTime.of(18, 0)));
+    }
+
+    @Test
+    @DisplayName("Should compute free gaps inside a window")
+    void testFreeGaps() {
+        // Given
+        IntervalIndex<Slot> bookings = IntervalIndex.of(List.of(
+                new Slot("a", LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new Slot("b", LocalTime.of(9, 30), LocalTime.of(11, 0)),
+                new Slot("c", LocalTime.of(13, 0), LocalTime.of(14, 0))
+        ), Slot::start, Slot::end);
+
+        // When
+        List<IntervalIndex.TimeWindow> gaps = bookings.freeGaps(LocalTime.of(8, 0), LocalTime.of(16, 0));
+
+        // Then
+        assertEquals(List.of(
+                new IntervalIndex.TimeWindow(LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                new IntervalIndex.TimeWindow(LocalTime.of(11, 0), LocalTime.of(13, 0)),
+                new IntervalIndex.TimeWindow(LocalTime.of(14, 0), LocalTime.of(16, 0))
+        ), gaps);
+    }
+
+    @Test
+    @DisplayName("Should answer empty results for an empty index")
+    void testEmptyIndex() {
+        // Given
+        IntervalIndex<Slot> empty = IntervalIndex.of(List.of(), Slot::start, Slot::end);
+
+        // When & Then
+        assertTrue(empty.isEmpty());
+        assertFalse(empty.anyOverlapping(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        assertEquals(List.of(new IntervalIndex.TimeWindow(LocalTime.of(9, 0), LocalTime.of(10, 0))),
+                empty.freeGaps(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+    }
+}
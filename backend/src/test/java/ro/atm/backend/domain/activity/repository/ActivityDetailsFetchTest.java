@@ -0,0 +1,120 @@
+package ro.atm.backend.domain.activity.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import ro.atm.backend.domain.activity.dto.ActivityDTO;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.entity.ActivityEmployee;
+import ro.atm.backend.domain.activity.entity.ActivityTimeSlot;
+import ro.atm.backend.domain.activity.entity.Media;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ro.atm.backend.support.TestEntities.activity;
+import static ro.atm.backend.support.TestEntities.category;
+import static ro.atm.backend.support.TestEntities.user;
+
+/**
+ * Statement counts of the activity detail loaders: mapping a list of activities through
+ * ActivityDTO.fromEntity must not issue one query per activity and collection
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Activity details fetch strategy")
+class ActivityDetailsFetchTest {
+
+    private static final int ACTIVITIES = 30;
+    private static final int EMPLOYEES = 5;
+
+    // Activities + one batch per collection + assigned employees/roles + category activity count
+    private static final int MAX_STATEMENTS = 8;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role employeeRole = persist(new Role("ROLE_EMPLOYEE"));
+        List<User> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(persist(user("guide" + i, employeeRole)));
+        }
+
+        ActivityCategory category = persist(category("Hiking"));
+
+        for (int i = 0; i < ACTIVITIES; i++) {
+            Activity activity = persist(activity("Trail " + i, category));
+
+            persist(new Media(null, Media.MediaType.IMAGE, activity, "https://cdn.example.com/" + i + "-a.jpg"));
+            persist(new Media(null, Media.MediaType.VIDEO, activity, "https://cdn.example.com/" + i + "-b.mp4"));
+            for (int hour : new int[]{9, 14}) {
+                persist(ActivityTimeSlot.builder()
+                        .activity(activity)
+                        .startTime(LocalTime.of(hour, 0))
+                        .endTime(LocalTime.of(hour + 2, 0))
+                        .active(true)
+                        .build());
+            }
+            persist(ActivityEmployee.builder()
+                    .activity(activity)
+                    .employee(employees.get(i % EMPLOYEES))
+                    .active(true)
+                    .build());
+        }
+
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should map every activity with all collections in a bounded number of statements")
+    void testFindAllWithDetails_BoundedStatements() {
+        // When
+        Measurement measurement = measure(() -> activityRepository.findAllWithDetails().stream()
+                .map(ActivityDTO::fromEntity)
+                .toList());
+
+        // Then
+        assertEquals(ACTIVITIES, measurement.result().size());
+        ActivityDTO first = measurement.result().get(0);
+        assertEquals(1, first.getImageUrls().size());
+        assertEquals(1, first.getVideoUrls().size());
+        assertEquals(2, first.getTimeSlots().size());
+        assertEquals(1, first.getAssignedEmployees().size());
+        assertEquals(ACTIVITIES, first.getCategory().getActivityCount());
+        assertTrue(measurement.statements() <= MAX_STATEMENTS,
+                "Expected at most " + MAX_STATEMENTS + " statements but got " + measurement.statements());
+    }
+
+    private Measurement measure(Supplier<List<ActivityDTO>> query) {
+        entityManager.clear();
+        statistics.clear();
+        List<ActivityDTO> result = query.get();
+        return new Measurement(result, statistics.getPrepareStatementCount());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private record Measurement(List<ActivityDTO> result, long statements) {
+    }
+}
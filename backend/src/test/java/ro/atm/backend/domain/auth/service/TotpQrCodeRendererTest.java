@@ -0,0 +1,79 @@
+package ro.atm.backend.domain.auth.service;
+
+import dev.samstevens.totp.exceptions.QrGenerationException;
+import dev.samstevens.totp.qr.QrData;
+import dev.samstevens.totp.qr.QrGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TotpQrCodeRenderer.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TotpQrCodeRenderer Tests")
+class TotpQrCodeRendererTest {
+
+    @Mock
+    private QrGenerator qrGenerator;
+
+    private TotpQrCodeRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new TotpQrCodeRenderer(qrGenerator, 1, 4, 5_000);
+        lenient().when(qrGenerator.getImageMimeType()).thenReturn("image/png");
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should render every call and keep nothing in memory")
+    void testRendersEveryCall() throws Exception {
+        // Given
+        when(qrGenerator.generate(any())).thenReturn(new byte[]{1, 2, 3});
+
+        // When
+        String first = renderer.renderDataUrl(qrData("guide", "SECRETA"));
+        String second = renderer.renderDataUrl(qrData("guide", "SECRETA"));
+
+        // Then
+        assertEquals("data:image/png;base64,AQID", first);
+        assertEquals(first, second);
+        verify(qrGenerator, times(2)).generate(any());
+    }
+
+    @Test
+    @DisplayName("Should surface a failed rendering and recover on the next call")
+    void testFailurePropagated() throws Exception {
+        // Given
+        when(qrGenerator.generate(any()))
+                .thenThrow(new QrGenerationException("boom", null))
+                .thenReturn(new byte[]{1});
+
+        // When & Then
+        assertThrows(QrGenerationException.class, () -> renderer.renderDataUrl(qrData("guide", "SECRETA")));
+        assertEquals("data:image/png;base64,AQ==", renderer.renderDataUrl(qrData("guide", "SECRETA")));
+    }
+
+    private static QrData qrData(String label, String secret) {
+        return new QrData.Builder()
+                .label(label)
+                .secret(secret)
+                .issuer("Dorna Adventure")
+                .digits(6)
+                .period(30)
+                .build();
+    }
+}
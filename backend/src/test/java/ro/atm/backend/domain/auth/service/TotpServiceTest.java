@@ -0,0 +1,79 @@
+package ro.atm.backend.domain.auth.service;
+
+import dev.samstevens.totp.code.DefaultCodeGenerator;
+import dev.samstevens.totp.code.HashingAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TotpService verification window and replay protection.
+ */
+@DisplayName("TotpService Tests")
+class TotpServiceTest {
+
+    private static final long START_SECONDS = 1_700_000_010L;
+
+    private final AtomicLong now = new AtomicLong(START_SECONDS);
+    private final DefaultCodeGenerator generator = new DefaultCodeGenerator(HashingAlgorithm.SHA1, 6);
+    private TotpService totpService;
+    private String secret;
+
+    @BeforeEach
+    void setUp() {
+        totpService = new TotpService(null, now::get, 1, 100);
+        secret = totpService.generateSecret();
+    }
+
+    @Test
+    @DisplayName("Should accept a valid code only once")
+    void testReplayRejected() throws Exception {
+        // Given
+        String code = codeAt(START_SECONDS);
+
+        // When & Then
+        assertTrue(totpService.verifyCode(secret, code));
+        assertFalse(totpService.verifyCode(secret, code));
+    }
+
+    @Test
+    @DisplayName("Should reject an older code once a newer one has been used")
+    void testOlderCodeRejectedAfterNewer() throws Exception {
+        // Given
+        String previous = codeAt(START_SECONDS - 30);
+        String current = codeAt(START_SECONDS);
+
+        // When & Then
+        assertTrue(totpService.verifyCode(secret, current));
+        assertFalse(totpService.verifyCode(secret, previous));
+    }
+
+    @Test
+    @DisplayName("Should honour the allowed discrepancy")
+    void testDiscrepancy() throws Exception {
+        // Given
+        String twoPeriodsAgo = codeAt(START_SECONDS - 60);
+
+        // When & Then
+        assertFalse(totpService.verifyCode(secret, twoPeriodsAgo));
+        assertFalse(totpService.verifyCodeWithDiscrepancy(secret, twoPeriodsAgo, 0));
+        assertTrue(totpService.verifyCodeWithDiscrepancy(secret, twoPeriodsAgo, 2));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed codes")
+    void testMalformedCode() {
+        // When & Then
+        assertFalse(totpService.verifyCode(secret, "12345"));
+        assertFalse(totpService.verifyCode(secret, null));
+        assertFalse(totpService.verifyCode(null, "123456"));
+    }
+
+    private String codeAt(long epochSeconds) throws Exception {
+        return generator.generate(secret, Math.floorDiv(epochSeconds, 30));
+    }
+}
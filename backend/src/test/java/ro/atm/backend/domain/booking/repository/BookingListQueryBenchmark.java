@@ -0,0 +1,154 @@
+package ro.atm.backend.domain.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.booking.dto.BookingDTO;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.support.JpaBenchmarkContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ro.atm.backend.support.TestEntities.activity;
+import static ro.atm.backend.support.TestEntities.category;
+import static ro.atm.backend.support.TestEntities.user;
+
+/**
+ * JMH latency of the booking list read path: entity loading + BookingDTO.fromEntity versus the BookingListRow
+ * constructor projection (BookingListQueryBenchmarkTest checks the statement counts of both).
+ * Each call runs in its own read-only transaction, so nothing is served from the persistence context.
+ * Not part of the test run; start it with main() from the IDE or
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=ro.atm.backend.domain.booking.repository.BookingListQueryBenchmark}.
+ * Runs on in-memory H2 by default; pass {@code -Dbenchmark.datasource.url/username/password} to use a
+ * throwaway PostgreSQL database instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingListQueryBenchmark {
+
+    private static final int CUSTOMERS = 20;
+    private static final int EMPLOYEES = 5;
+
+    @Param({"300", "3000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start(
+                System.getProperty("benchmark.datasource.url", "jdbc:h2:mem:booking-list;DB_CLOSE_DELAY=-1"),
+                System.getProperty("benchmark.datasource.username", "sa"),
+                System.getProperty("benchmark.datasource.password", ""),
+                2);
+        bookingRepository = context.getBean(BookingRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Role userRole = persist(entityManager, new Role("ROLE_USER"));
+            Role employeeRole = persist(entityManager, new Role("ROLE_EMPLOYEE"));
+
+            List<User> customers = new ArrayList<>();
+            for (int i = 0; i < CUSTOMERS; i++) {
+                customers.add(persist(entityManager, user("customer" + i, userRole)));
+            }
+            List<User> employees = new ArrayList<>();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                employees.add(persist(entityManager, user("guide" + i, employeeRole)));
+            }
+
+            ActivityCategory rafting = persist(entityManager, category("Rafting"));
+            List<Activity> activities = List.of(
+                    persist(entityManager, activity("River run", rafting)),
+                    persist(entityManager, activity("Canyon", rafting)));
+
+            for (int i = 0; i < bookings; i++) {
+                boolean guest = i % 10 == 0;
+                BigDecimal total = BigDecimal.valueOf(100 + i);
+                persist(entityManager, Booking.builder()
+                        .activity(activities.get(i % activities.size()))
+                        .user(guest ? null : customers.get(i % CUSTOMERS))
+                        .guestName(guest ? "Guest " + i : null)
+                        .guestPhone(guest ? "07000000" + i : null)
+                        .employee(employees.get(i % EMPLOYEES))
+                        .bookingDate(LocalDate.of(2025, 7, 1).plusDays(i % 60))
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(11, 0))
+                        .numberOfParticipants(2)
+                        .totalPrice(total)
+                        .depositPaid(BigDecimal.TEN)
+                        .status(Booking.BookingStatus.PENDING)
+                        .paymentStatus(Booking.PaymentStatus.UNPAID)
+                        .paidAmount(BigDecimal.ZERO)
+                        .remainingAmount(total)
+                        .willPayRemainingCash(false)
+                        .build());
+            }
+        });
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingDTO> entities() {
+        return readOnlyTransaction.execute(status -> bookingRepository.findAll().stream()
+                .map(BookingDTO::fromEntity)
+                .toList());
+    }
+
+    @Benchmark
+    public List<BookingDTO> projection() {
+        return readOnlyTransaction.execute(status -> bookingRepository.findAllListRows().stream()
+                .map(BookingDTO::fromListRow)
+                .toList());
+    }
+
+    private static <T> T persist(EntityManager entityManager, T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookingListQueryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
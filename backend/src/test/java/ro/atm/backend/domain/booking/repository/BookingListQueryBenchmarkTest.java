@@ -0,0 +1,142 @@
+package ro.atm.backend.domain.booking.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.booking.dto.BookingDTO;
+import ro.atm.backend.domain.booking.entity.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ro.atm.backend.support.TestEntities.activity;
+import static ro.atm.backend.support.TestEntities.category;
+import static ro.atm.backend.support.TestEntities.user;
+
+/**
+ * Statement count of the booking list read path: entity loading + BookingDTO.fromEntity
+ * versus the BookingListRow constructor projection; BookingListQueryBenchmark measures their latency
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Booking list query benchmark")
+class BookingListQueryBenchmarkTest {
+
+    private static final int CUSTOMERS = 20;
+    private static final int EMPLOYEES = 5;
+    private static final int BOOKINGS = 300;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role userRole = persist(new Role("ROLE_USER"));
+        Role employeeRole = persist(new Role("ROLE_EMPLOYEE"));
+
+        List<User> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers.add(persist(user("customer" + i, userRole)));
+        }
+        List<User> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(persist(user("guide" + i, employeeRole)));
+        }
+
+        ActivityCategory category = persist(category("Rafting"));
+        List<Activity> activities = List.of(persist(activity("River run", category)), persist(activity("Canyon", category)));
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            boolean guest = i % 10 == 0;
+            BigDecimal total = BigDecimal.valueOf(100 + i);
+            persist(Booking.builder()
+                    .activity(activities.get(i % activities.size()))
+                    .user(guest ? null : customers.get(i % CUSTOMERS))
+                    .guestName(guest ? "Guest " + i : null)
+                    .guestPhone(guest ? "07000000" + i : null)
+                    .employee(employees.get(i % EMPLOYEES))
+                    .bookingDate(LocalDate.of(2025, 7, 1).plusDays(i % 60))
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(11, 0))
+                    .numberOfParticipants(2)
+                    .totalPrice(total)
+                    .depositPaid(BigDecimal.TEN)
+                    .status(Booking.BookingStatus.PENDING)
+                    .paymentStatus(Booking.PaymentStatus.UNPAID)
+                    .paidAmount(BigDecimal.ZERO)
+                    .remainingAmount(total)
+                    .willPayRemainingCash(false)
+                    .build());
+        }
+
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Projection should build the same DTOs in a single statement")
+    void testListProjection_SingleStatement() {
+        // When
+        Measurement entities = measure(() -> bookingRepository.findAll().stream()
+                .map(BookingDTO::fromEntity)
+                .sorted(Comparator.comparing(BookingDTO::getId))
+                .toList());
+        Measurement projection = measure(() -> bookingRepository.findAllListRows().stream()
+                .map(BookingDTO::fromListRow)
+                .toList());
+
+        // Then
+        assertEquals(BOOKINGS, projection.result().size());
+        assertEquals(entities.result(), projection.result());
+        assertEquals(1, projection.statements());
+        assertTrue(entities.statements() > projection.statements());
+    }
+
+    @Test
+    @DisplayName("Projection by username should return only that user's bookings in a single statement")
+    void testListProjectionByUsername_SingleStatement() {
+        // When
+        Measurement projection = measure(() -> bookingRepository.findListRowsByUsername("customer3").stream()
+                .map(BookingDTO::fromListRow)
+                .toList());
+
+        // Then
+        assertFalse(projection.result().isEmpty());
+        assertTrue(projection.result().stream().allMatch(b -> b.getUserName().equals("First3 Last3")));
+        assertEquals(1, projection.statements());
+    }
+
+    private Measurement measure(Supplier<List<BookingDTO>> query) {
+        entityManager.clear();
+        statistics.clear();
+        List<BookingDTO> result = query.get();
+        return new Measurement(result, statistics.getPrepareStatementCount());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private record Measurement(List<BookingDTO> result, long statements) {
+    }
+}
@@ -0,0 +1,49 @@
+package ro.atm.backend.domain.booking.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ro.atm.backend.common.util.IntervalIndex;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingIntervals start time derivation.
+ */
+@DisplayName("BookingIntervals Tests")
+class BookingIntervalsTest {
+
+    private static final LocalTime WORK_START = LocalTime.of(9, 0);
+
+    @Test
+    @DisplayName("Should align start times to the grid of the work interval")
+    void testStartTimesWithin_AlignedToGrid() {
+        // Given
+        List<IntervalIndex.TimeWindow> gaps = List.of(
+                new IntervalIndex.TimeWindow(LocalTime.of(9, 10), LocalTime.of(10, 30)),
+                new IntervalIndex.TimeWindow(LocalTime.of(12, 0), LocalTime.of(12, 50))
+        );
+
+        // When
+        List<LocalTime> startTimes = BookingIntervals.startTimesWithin(gaps, WORK_START, 15, 60);
+
+        // Then
+        assertEquals(List.of(LocalTime.of(9, 15), LocalTime.of(9, 30)), startTimes);
+    }
+
+    @Test
+    @DisplayName("Should find no start time when gaps are shorter than the activity")
+    void testHasStartTimeWithin_GapsTooShort() {
+        // Given
+        List<IntervalIndex.TimeWindow> gaps = List.of(
+                new IntervalIndex.TimeWindow(LocalTime.of(9, 0), LocalTime.of(9, 45)),
+                new IntervalIndex.TimeWindow(LocalTime.of(11, 10), LocalTime.of(12, 20))
+        );
+
+        // When & Then
+        assertFalse(BookingIntervals.hasStartTimeWithin(gaps, WORK_START, 30, 60));
+        assertTrue(BookingIntervals.hasStartTimeWithin(gaps, WORK_START, 5, 60));
+    }
+}
@@ -0,0 +1,170 @@
+package ro.atm.backend.domain.booking.service;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.service.ActivityTimeSlotService;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+import ro.atm.backend.domain.booking.entity.Booking;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+import ro.atm.backend.domain.employee.service.EmployeeRosterCache;
+import ro.atm.backend.support.JpaBenchmarkContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static ro.atm.backend.support.TestEntities.activity;
+import static ro.atm.backend.support.TestEntities.category;
+import static ro.atm.backend.support.TestEntities.user;
+
+/**
+ * JMH throughput of parallel booking reservations: reserveAvailableEmployee + saving the booking, with the real
+ * in-process stripes and PostgreSQL advisory locks. "same-date" sends every thread at one day, so reservations
+ * queue on its stripe and on the first guide's advisory lock; "distinct-dates" gives each thread its own day.
+ * Each reservation is rolled back after the insert, so the locks are held as long as in production while the
+ * guides never fill up.
+ * Not part of the test run and needs a throwaway PostgreSQL database (the schema is created and dropped);
+ * start it with main() from the IDE or
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=ro.atm.backend.domain.booking.service.BookingReservationBenchmark}
+ * and pass {@code -Dbenchmark.datasource.url/username/password} to point it at another database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class BookingReservationBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int GUIDES = 4;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 7, 1);
+    private static final LocalTime START = LocalTime.of(10, 0);
+
+    @Param({"same-date", "distinct-dates"})
+    private String dates;
+
+    private ConfigurableApplicationContext context;
+    private BookingEmployeeAssignmentService assignmentService;
+    private BookingRepository bookingRepository;
+    private TransactionTemplate transactionTemplate;
+    private Activity activity;
+    private User customer;
+
+    private final AtomicInteger threadDays = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = JpaBenchmarkContext.start(
+                System.getProperty("benchmark.datasource.url", "jdbc:postgresql://localhost:5432/dorna_benchmark"),
+                System.getProperty("benchmark.datasource.username", "postgres"),
+                System.getProperty("benchmark.datasource.password", "postgres"),
+                THREADS + 2,
+                BookingEmployeeAssignmentService.class, BookingReservationLock.class,
+                EmployeeRosterCache.class, ActivityTimeSlotService.class);
+        assignmentService = context.getBean(BookingEmployeeAssignmentService.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            Role userRole = new Role("ROLE_USER");
+            Role employeeRole = new Role("ROLE_EMPLOYEE");
+            entityManager.persist(userRole);
+            entityManager.persist(employeeRole);
+            for (int i = 0; i < GUIDES; i++) {
+                entityManager.persist(user("guide" + i, employeeRole));
+            }
+            customer = user("customer0", userRole);
+            entityManager.persist(customer);
+
+            ActivityCategory rafting = category("Rafting");
+            entityManager.persist(rafting);
+            activity = activity("River run", rafting);
+            entityManager.persist(activity);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadDay {
+
+        LocalDate date;
+
+        @Setup(Level.Trial)
+        public void setUp(BookingReservationBenchmark benchmark) {
+            date = "same-date".equals(benchmark.dates)
+                    ? FIRST_DAY
+                    : FIRST_DAY.plusDays(benchmark.threadDays.getAndIncrement());
+        }
+    }
+
+    @Benchmark
+    public Long reserve(ThreadDay day) {
+        return transactionTemplate.execute(status -> {
+            User employee = assignmentService.reserveAvailableEmployee(day.date, START,
+                    START.plusMinutes(activity.getDurationMinutes()), activity, 2);
+            if (employee == null) {
+                throw new IllegalStateException("No guide available on " + day.date);
+            }
+            Booking booking = bookingRepository.saveAndFlush(booking(employee, day.date));
+            status.setRollbackOnly();
+            return booking.getId();
+        });
+    }
+
+    private Booking booking(User employee, LocalDate date) {
+        BigDecimal total = activity.getPricePerPerson().multiply(BigDecimal.TWO);
+        return Booking.builder()
+                .activity(activity)
+                .user(customer)
+                .employee(employee)
+                .bookingDate(date)
+                .startTime(START)
+                .endTime(START.plusMinutes(activity.getDurationMinutes()))
+                .numberOfParticipants(2)
+                .totalPrice(total)
+                .depositPaid(BigDecimal.TEN)
+                .status(Booking.BookingStatus.PENDING)
+                .paymentStatus(Booking.PaymentStatus.UNPAID)
+                .paidAmount(BigDecimal.ZERO)
+                .remainingAmount(total)
+                .willPayRemainingCash(false)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookingReservationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
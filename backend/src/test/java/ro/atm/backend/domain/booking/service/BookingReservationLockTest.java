@@ -0,0 +1,168 @@
+package ro.atm.backend.domain.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ro.atm.backend.domain.booking.repository.BookingRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingReservationLock.
+ * The advisory lock is mocked; the bursts check that the in-process striping serializes
+ * the critical sections of a day and that the locks are released with the transaction.
+ * Throughput under contention, with the real advisory locks, is measured by BookingReservationBenchmark.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingReservationLock Tests")
+class BookingReservationLockTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 500;
+    private static final int SEATS_PER_DAY = 40;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingReservationLock reservationLock;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        reservationLock = new BookingReservationLock(bookingRepository, 64);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should refuse to lock outside a transaction")
+    void testLockRequiresTransaction() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> reservationLock.lockDay(LocalDate.now()));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should never overbook a day under a parallel booking burst")
+    void testParallelBurst_SingleDay_NoOverbooking() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2025, 7, 1);
+        int[] bookedSeats = new int[1]; // deliberately unsynchronized; only the reservation lock protects it
+
+        // When
+        BurstResult result = runBurst(attempt -> date, d -> {
+            if (bookedSeats[0] < SEATS_PER_DAY) {
+                bookedSeats[0]++;
+                return true;
+            }
+            return false;
+        });
+
+        // Then
+        assertEquals(SEATS_PER_DAY, bookedSeats[0]);
+        assertEquals(SEATS_PER_DAY, result.reserved());
+        assertEquals(1, result.maxConcurrentPerDay());
+        verify(bookingRepository, times(THREADS * ATTEMPTS_PER_THREAD)).lockEmployeeDay(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should keep different days independent under a parallel booking burst")
+    void testParallelBurst_ManyDays_NoOverbooking() throws Exception {
+        // Given
+        int days = 8;
+        LocalDate firstDay = LocalDate.of(2025, 7, 1);
+        int[] bookedSeats = new int[days];
+
+        // When
+        BurstResult result = runBurst(attempt -> firstDay.plusDays(attempt % days), d -> {
+            int day = (int) (d.toEpochDay() - firstDay.toEpochDay());
+            if (bookedSeats[day] < SEATS_PER_DAY) {
+                bookedSeats[day]++;
+                return true;
+            }
+            return false;
+        });
+
+        // Then
+        for (int day = 0; day < days; day++) {
+            assertEquals(SEATS_PER_DAY, bookedSeats[day]);
+        }
+        assertEquals(SEATS_PER_DAY * days, result.reserved());
+        assertEquals(1, result.maxConcurrentPerDay());
+    }
+
+    private BurstResult runBurst(java.util.function.IntFunction<LocalDate> dateForAttempt,
+                                 java.util.function.Predicate<LocalDate> tryReserve) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        Map<LocalDate, AtomicInteger> inSection = new ConcurrentHashMap<>();
+        AtomicInteger maxConcurrentPerDay = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    LocalDate date = dateForAttempt.apply(thread * ATTEMPTS_PER_THREAD + i);
+                    TransactionSynchronizationManager.initSynchronization();
+                    try {
+                        reservationLock.lockDay(date);
+                        reservationLock.lockEmployeeDay(1L, date);
+                        AtomicInteger holders = inSection.computeIfAbsent(date, d -> new AtomicInteger());
+                        maxConcurrentPerDay.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                        try {
+                            if (tryReserve.test(date)) {
+                                reserved.incrementAndGet();
+                            }
+                            Thread.yield(); // widen the window for an overlapping holder
+                        } finally {
+                            holders.decrementAndGet();
+                        }
+                    } finally {
+                        // Simulate the commit releasing the locks
+                        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                            sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                        }
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        return new BurstResult(reserved.get(), maxConcurrentPerDay.get());
+    }
+
+    private record BurstResult(int reserved, int maxConcurrentPerDay) {
+    }
+}
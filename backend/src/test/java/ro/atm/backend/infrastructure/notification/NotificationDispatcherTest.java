@@ -0,0 +1,134 @@
+package ro.atm.backend.infrastructure.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import ro.atm.backend.infrastructure.email.EmailService;
+import ro.atm.backend.infrastructure.scheduling.ClusterJobExecutor;
+import ro.atm.backend.infrastructure.sms.SmsService;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationDispatcher delivery outcomes and backoff.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDispatcher Tests")
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private SmsService smsService;
+
+    @Mock
+    private ClusterJobExecutor jobExecutor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationDispatcher(outboxRepository, emailService, smsService, jobExecutor,
+                transactionManager, new SimpleMeterRegistry(), 50, 3, 30, 3600, 300, 7, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should mark a delivered message as sent and drop its body")
+    void testDeliverySucceeds() throws Exception {
+        // Given
+        NotificationOutbox message = message(NotificationOutbox.Channel.EMAIL, 1);
+
+        // When
+        dispatcher.deliver(message);
+
+        // Then
+        verify(emailService).deliver("guest@example.com", "Subject", "<p>token</p>", true);
+        assertEquals(NotificationOutbox.Status.SENT, message.getStatus());
+        assertNotNull(message.getSentAt());
+        assertNull(message.getBody());
+        verify(outboxRepository).save(message);
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed message with backoff")
+    void testDeliveryRetried() {
+        // Given
+        NotificationOutbox message = message(NotificationOutbox.Channel.SMS, 1);
+        doThrow(new IllegalStateException("provider down")).when(smsService).deliver(anyString(), anyString());
+
+        // When
+        dispatcher.deliver(message);
+
+        // Then
+        assertEquals(NotificationOutbox.Status.PENDING, message.getStatus());
+        assertEquals("provider down", message.getLastError());
+        assertTrue(message.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+        assertNotNull(message.getBody());
+    }
+
+    @Test
+    @DisplayName("Should give up on a message after the last attempt")
+    void testDeliveryDead() {
+        // Given
+        NotificationOutbox message = message(NotificationOutbox.Channel.SMS, 3);
+        doThrow(new IllegalStateException("invalid number")).when(smsService).deliver(anyString(), anyString());
+
+        // When
+        dispatcher.deliver(message);
+
+        // Then
+        assertEquals(NotificationOutbox.Status.DEAD, message.getStatus());
+        assertNull(message.getBody());
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the cap, with jitter")
+    void testBackoff() {
+        // When & Then
+        long first = dispatcher.backoffMillis(1);
+        long third = dispatcher.backoffMillis(3);
+        long capped = dispatcher.backoffMillis(30);
+
+        assertTrue(first >= 22_500 && first <= 30_000);
+        assertTrue(third >= 90_000 && third <= 120_000);
+        assertTrue(capped >= 2_700_000 && capped <= 3_600_000);
+    }
+
+    private static NotificationOutbox message(NotificationOutbox.Channel channel, int attempts) {
+        return NotificationOutbox.builder()
+                .id(1L)
+                .channel(channel)
+                .recipient(channel == NotificationOutbox.Channel.EMAIL ? "guest@example.com" : "+40700000000")
+                .subject(channel == NotificationOutbox.Channel.EMAIL ? "Subject" : null)
+                .body("<p>token</p>")
+                .html(channel == NotificationOutbox.Channel.EMAIL)
+                .messageType("test")
+                .status(NotificationOutbox.Status.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package ro.atm.backend.infrastructure.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterJobExecutor
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterJobExecutor Tests")
+class ClusterJobExecutorTest {
+
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClusterJobExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ClusterJobExecutor(jobLockRepository, jobRunRepository, transactionManager, 60, 14);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should skip the job when another instance holds the lease")
+    void testRunExclusively_LeaseHeldElsewhere() {
+        // Given
+        when(jobLockRepository.tryAcquire(eq("sweep"), anyString(), anyLong())).thenReturn(0);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        boolean ran = executor.runExclusively("sweep", Duration.ofSeconds(30), runs::incrementAndGet);
+
+        // Then
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+        verifyNoInteractions(jobRunRepository);
+        verify(jobLockRepository, never()).release(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should run the job, record its history and keep the lease for the minimum time")
+    void testRunExclusively_Succeeded() {
+        // Given
+        JobRun run = JobRun.builder().id(7L).status(JobRun.RunStatus.RUNNING).build();
+        when(jobLockRepository.tryAcquire(eq("sweep"), anyString(), anyLong())).thenReturn(1);
+        when(jobRunRepository.save(any(JobRun.class))).thenReturn(run);
+        when(jobRunRepository.findById(7L)).thenReturn(Optional.of(run));
+
+        // When
+        boolean ran = executor.runExclusively("sweep", Duration.ofSeconds(30), () -> 12);
+
+        // Then
+        assertTrue(ran);
+        assertEquals(JobRun.RunStatus.SUCCEEDED, run.getStatus());
+        assertEquals(12, run.getItemsProcessed());
+        assertNotNull(run.getFinishedAt());
+        verify(jobLockRepository).release("sweep", executor.getInstanceId(), 30_000L);
+    }
+
+    @Test
+    @DisplayName("Should record a failed run and still release the lease")
+    void testRunExclusively_Failed() {
+        // Given
+        JobRun run = JobRun.builder().id(8L).status(JobRun.RunStatus.RUNNING).build();
+        when(jobLockRepository.tryAcquire(eq("sweep"), anyString(), anyLong())).thenReturn(1);
+        when(jobRunRepository.save(any(JobRun.class))).thenReturn(run);
+        when(jobRunRepository.findById(8L)).thenReturn(Optional.of(run));
+
+        // When
+        boolean ran = executor.runExclusively("sweep", Duration.ofSeconds(30), () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Then
+        assertTrue(ran);
+        assertEquals(JobRun.RunStatus.FAILED, run.getStatus());
+        assertEquals("boom", run.getErrorMessage());
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(jobLockRepository).release(eq("sweep"), owner.capture(), eq(30_000L));
+        assertEquals(executor.getInstanceId(), owner.getValue());
+    }
+}
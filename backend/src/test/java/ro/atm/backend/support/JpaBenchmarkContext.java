@@ -0,0 +1,55 @@
+package ro.atm.backend.support;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.data.jpa.autoconfigure.DataJpaRepositoriesAutoConfiguration;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Minimal Spring context for JMH benchmarks that need the real JPA stack: data source, Hibernate with the
+ * application's naming strategies, every repository and transactions, plus the given components.
+ * The schema is created on start and dropped on close, so point it at a throwaway database.
+ */
+public final class JpaBenchmarkContext {
+
+    private JpaBenchmarkContext() {
+    }
+
+    /**
+     * Start a context on the given JDBC database with a pool large enough for the benchmark threads
+     */
+    public static ConfigurableApplicationContext start(String url, String username, String password,
+                                                       int poolSize, Class<?>... components) {
+        return new SpringApplicationBuilder(Configuration.class)
+                .sources(components)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackages = "ro.atm.backend")
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            DataJpaRepositoriesAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    static class Configuration {
+    }
+}
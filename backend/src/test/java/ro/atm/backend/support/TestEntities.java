@@ -0,0 +1,57 @@
+package ro.atm.backend.support;
+
+import ro.atm.backend.domain.activity.entity.Activity;
+import ro.atm.backend.domain.activity.entity.ActivityCategory;
+import ro.atm.backend.domain.activity.entity.LocationDetails;
+import ro.atm.backend.domain.auth.entity.Role;
+import ro.atm.backend.domain.auth.entity.User;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Minimal valid entities for repository tests; every NOT NULL column is filled in.
+ */
+public final class TestEntities {
+
+    private TestEntities() {
+    }
+
+    /**
+     * A user whose names and phone are derived from the digits of the username, e.g. guide3 -> First3 Last3
+     */
+    public static User user(String username, Role role) {
+        String suffix = username.replaceAll("\\D", "");
+        User user = new User(username, "secret", username + "@example.com",
+                "First" + suffix, "Last" + suffix, "+40" + Math.abs(username.hashCode()));
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return user;
+    }
+
+    public static ActivityCategory category(String name) {
+        return ActivityCategory.builder()
+                .name(name)
+                .active(true)
+                .displayOrder(0)
+                .maxParticipantsPerGuide(10)
+                .build();
+    }
+
+    public static Activity activity(String name, ActivityCategory category) {
+        return Activity.builder()
+                .name(name)
+                .description(name)
+                .minParticipants(1)
+                .maxParticipants(10)
+                .pricePerPerson(BigDecimal.valueOf(50))
+                .depositPercent(BigDecimal.valueOf(20))
+                .durationMinutes(120)
+                .location("Dorna")
+                .locationDetails(LocationDetails.builder().city("Vatra Dornei").build())
+                .category(category)
+                .active(true)
+                .employeeSelectionEnabled(false)
+                .build();
+    }
+}
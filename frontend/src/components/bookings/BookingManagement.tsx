@@ -46,6 +46,7 @@ import EmployeeSwapDialog from './EmployeeSwapDialog';
 export default function BookingManagement() {
   const { t } = useTranslation();
   const [bookings, setBookings] = useState<Booking[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [employees, setEmployees] = useState<Employee[]>([]);
   const [loading, setLoading] = useState(false);
   const [selectedBooking, setSelectedBooking] = useState<Booking | null>(null);
@@ -91,8 +92,24 @@ export default function BookingManagement() {
   const fetchBookings = async () => {
     try {
       setLoading(true);
-      const response = await bookingService.getAllBookings();
-      setBookings(response.data);
+      const response = await bookingService.getBookingsPage();
+      setBookings(response.data.items);
+      setNextCursor(response.data.nextCursor);
+    } catch {
+      toast.error(t('admin.bookings.loadError'));
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const fetchMoreBookings = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setLoading(true);
+      const response = await bookingService.getBookingsPage({ cursor: nextCursor });
+      setBookings(prev => [...prev, ...response.data.items]);
+      setNextCursor(response.data.nextCursor);
     } catch {
       toast.error(t('admin.bookings.loadError'));
     } finally {
@@ -536,6 +553,14 @@ const handleConfirmSwap = async (selectedBookingId: number) => {
         }}
       />
 
+      {nextCursor && (
+        <Box sx={{ mt: 2, display: 'flex', justifyContent: 'center' }}>
+          <Button variant="outlined" onClick={fetchMoreBookings} disabled={loading}>
+            {t('admin.bookings.loadMore')}
+          </Button>
+        </Box>
+      )}
+
       {/* Create Booking Dialog */}
       <Dialog 
         open={createDialogOpen} 
@@ -278,10 +278,15 @@ export default function AdminWorkHoursManagement() {
 
       if (selectedEmployee === ALL_EMPLOYEES_ID) {
         // Process all employees
+        let conflictCount = 0;
         for (const employee of employees) {
           try {
-            await workHourRequestService.createBulkEmployeeWorkHours(employee.id, bulkData);
-            successCount++;
+            const response = await workHourRequestService.createBulkEmployeeWorkHours(employee.id, bulkData);
+            const { created, conflicts } = response.data;
+            if (created.length > 0) {
+              successCount++;
+            }
+            conflictCount += conflicts.length;
           } catch (error) {
             console.error(`Failed for employee ${employee.id}:`, error);
             failCount++;
@@ -297,13 +302,23 @@ export default function AdminWorkHoursManagement() {
           );
         }
         
+        if (conflictCount > 0) {
+          toast.error(t('workHours.bulkConflicts', { count: conflictCount }));
+        }
+
         if (failCount > 0) {
           toast.error(t('workHours.bulkPartialError', { count: failCount }));
         }
       } else {
         // Process single employee
-        await workHourRequestService.createBulkEmployeeWorkHours(selectedEmployee, bulkData);
-        toast.success(t('workHours.added'));
+        const response = await workHourRequestService.createBulkEmployeeWorkHours(selectedEmployee, bulkData);
+        const { created, conflicts } = response.data;
+        if (created.length > 0) {
+          toast.success(t('workHours.added'));
+        }
+        if (conflicts.length > 0) {
+          toast.error(t('workHours.bulkConflicts', { count: conflicts.length }));
+        }
         successCount = 1;
       }
 
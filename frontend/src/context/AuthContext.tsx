@@ -2,7 +2,7 @@
 // src/context/AuthContext.tsx
 import { createContext, useContext, useState, useEffect, type ReactNode } from 'react';
 import { useNavigate } from 'react-router-dom';
-import api from '../services/api';
+import api, { refreshSession, revokeSession } from '../services/api';
 import type { AuthContextType, RegisterRequest, AuthResponse, LoginResponse } from '../types/auth';
 import { getUserRolesFromToken, isAdmin as checkIsAdmin, isTokenExpired, isEmployee } from '../utils/jwt';
 
@@ -24,10 +24,16 @@ export const AuthProvider = ({ children }: AuthProviderProps) => {
       if (storedToken) {
         // Check if token is expired
         if (isTokenExpired(storedToken)) {
-          // Token expired, clear it
-          localStorage.removeItem('token');
-          setToken(null);
-          setUserRole(null);
+          // Token expired, try the refresh token before clearing it
+          const refreshedToken = await refreshSession();
+          if (refreshedToken) {
+            setToken(refreshedToken);
+            setUserRole(getUserRolesFromToken(refreshedToken));
+          } else {
+            localStorage.removeItem('token');
+            setToken(null);
+            setUserRole(null);
+          }
         } else {
           // Token valid, extract role
           setToken(storedToken);
@@ -67,6 +73,9 @@ const login = async (
       const roles = getUserRolesFromToken(token);
 
       localStorage.setItem('token', token);
+      if (loginData.refreshToken) {
+        localStorage.setItem('refreshToken', loginData.refreshToken);
+      }
       localStorage.setItem('user', JSON.stringify(loginData.user));
       
       setToken(token);
@@ -100,7 +109,9 @@ const login = async (
   };
 
   const logout = (): void => {
+    revokeSession();
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
     setToken(null);
     setUserRole(null);
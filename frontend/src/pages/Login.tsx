@@ -93,6 +93,9 @@ export default function Login() {
           setError(t('auth.login.accountDisabled', 'Account disabled. Please verify your email.'));
           setIsAccountDisabled(true);
           break;
+        case "TOO_MANY_REQUESTS":
+          setError(t('auth.login.tooManyAttempts', 'Too many login attempts. Please wait a few minutes and try again.'));
+          break;
         default:
           setError(result.error || t('auth.login.error', 'Login failed'));
       }
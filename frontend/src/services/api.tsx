@@ -1,5 +1,5 @@
-import axios, { type AxiosInstance, AxiosError } from 'axios';
-import type { LoginRequest, RegisterRequest } from '../types/auth';
+import axios, { type AxiosInstance, AxiosError, type InternalAxiosRequestConfig } from 'axios';
+import type { LoginRequest, LoginResponse, RegisterRequest } from '../types/auth';
 
 const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api/v1';
 
@@ -22,10 +22,50 @@ api.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
-// Response interceptor - handle expired tokens
+// Shared by all requests failing at the same time, so the refresh token is used once
+let refreshPromise: Promise<string | null> | null = null;
+
+// Exchange the stored refresh token for a new token pair; resolves to the new access token or null
+export const refreshSession = (): Promise<string | null> => {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    return Promise.resolve(null);
+  }
+
+  if (!refreshPromise) {
+    // Plain axios: the expired access token must not be sent along
+    refreshPromise = axios
+      .post<LoginResponse>(`${API_BASE_URL}/auth/refresh`, { refreshToken })
+      .then((response) => {
+        localStorage.setItem('token', response.data.token);
+        if (response.data.refreshToken) {
+          localStorage.setItem('refreshToken', response.data.refreshToken);
+        }
+        return response.data.token;
+      })
+      .catch(() => {
+        localStorage.removeItem('refreshToken');
+        return null;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
+// Invalidate the stored refresh token on the server; failures are ignored since the session is cleared anyway
+export const revokeSession = (): void => {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (refreshToken) {
+    axios.post(`${API_BASE_URL}/auth/logout`, { refreshToken }).catch(() => undefined);
+  }
+};
+
+// Response interceptor - refresh expired tokens, otherwise send the user to login
 api.interceptors.response.use(
   (response) => response,
-  (error: AxiosError) => {
+  async (error: AxiosError) => {
     // Check if the error is 401
     if (error.response?.status === 401) {
       
@@ -34,7 +74,18 @@ api.interceptors.response.use(
         return Promise.reject(error);
       }
 
+      const originalRequest = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+      if (originalRequest && !originalRequest._retried) {
+        originalRequest._retried = true;
+        const token = await refreshSession();
+        if (token) {
+          originalRequest.headers.Authorization = `Bearer ${token}`;
+          return api(originalRequest);
+        }
+      }
+
       localStorage.removeItem('token');
+      localStorage.removeItem('refreshToken');
       if (window.location.pathname !== '/login') {
         window.location.href = '/login';
       }
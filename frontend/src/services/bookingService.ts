@@ -1,6 +1,6 @@
 // src/services/bookingService.ts
 import api from './api';
-import type { Booking, BookingRequest, TimeSlot } from '../types/booking';
+import type { Booking, BookingPage, BookingPageQuery, BookingRequest, TimeSlot } from '../types/booking';
 
 export const bookingService = {
   getAvailableTimeSlots: (activityId: number, date: string, numberOfParticipants?: number) => {
@@ -24,6 +24,9 @@ export const bookingService = {
   
   getAllBookings: () => 
     api.get<Booking[]>('/bookings'),
+
+  getBookingsPage: (query: BookingPageQuery = {}) =>
+    api.get<BookingPage>('/bookings/page', { params: query }),
   
   getBookingById: (id: number) => 
     api.get<Booking>(`/bookings/${id}`),
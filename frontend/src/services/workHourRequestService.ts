@@ -1,6 +1,6 @@
 // src/services/workHourRequestService.ts
 import api from './api';
-import type { WorkHourRequest, WorkHourRequestCreate, EmployeeWorkHour, EmployeeWorkHourBulkCreate, EmployeeWorkHourUpdate } from '../types/workHourRequest';
+import type { WorkHourRequest, WorkHourRequestCreate, EmployeeWorkHour, EmployeeWorkHourBulkCreate, EmployeeWorkHourUpdate, WorkHourBulkResult } from '../types/workHourRequest';
 
 
 export const workHourRequestService = {
@@ -50,7 +50,7 @@ export const workHourRequestService = {
     api.put<EmployeeWorkHour>(`/work-hours/employee/${employeeId}`, data),
 
   createBulkEmployeeWorkHours: (employeeId: number, data: EmployeeWorkHourBulkCreate) =>
-    api.post<EmployeeWorkHour[]>(`/work-hours/employee/${employeeId}/bulk`, data),
+    api.post<WorkHourBulkResult<EmployeeWorkHour>>(`/work-hours/employee/${employeeId}/bulk`, data),
 
   deleteEmployeeWorkHour: (id: number) =>
     api.delete(`/work-hours/employee/hours/${id}`),
@@ -33,6 +33,7 @@ export interface Activity {
   depositPercent: number;
   duration: string;
   durationMinutes: number;
+  slotIntervalMinutes?: number;
   location: string;
   locationDetails?: LocationDetails;
   category: Category;
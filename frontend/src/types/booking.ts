@@ -31,6 +31,23 @@ export interface Booking {
   guestEmail?: string | null;
   isGuestBooking?: boolean;
 }
+export interface BookingPage {
+  items: Booking[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export interface BookingPageQuery {
+  cursor?: string;
+  limit?: number;
+  status?: string;
+  paymentStatus?: string;
+  employeeId?: number;
+  activityId?: number;
+  from?: string; // ISO date
+  to?: string; // ISO date
+}
+
 export interface BookingRequest {
   activityId: number;
   bookingDate: string; // ISO date format
@@ -38,6 +55,7 @@ export interface BookingRequest {
   numberOfParticipants: number;
   notes?: string;
   employeeId?: number;
+  holdId?: number;
 }
 
 export interface TimeSlot {
@@ -45,4 +45,14 @@ export interface EmployeeWorkHourBulkCreate {
   startTime?: string | null;
   endTime?: string | null;
   isAvailable: boolean;
-}
\ No newline at end of file
+}
+
+export interface WorkDateConflict {
+  workDate: string; // ISO date string
+  reason: string;
+}
+
+export interface WorkHourBulkResult<T> {
+  created: T[];
+  conflicts: WorkDateConflict[];
+}